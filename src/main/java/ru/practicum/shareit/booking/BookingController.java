@@ -10,6 +10,7 @@ import ru.practicum.shareit.booking.dto.BookingCreateDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.enums.BookingState;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.bulkhead.Bulkhead;
 import ru.practicum.shareit.logging.Logging;
 import ru.practicum.shareit.util.PageRequestWithOffset;
 
@@ -20,6 +21,7 @@ import java.util.List;
 @RestController
 @RequestMapping(path = "/bookings")
 @RequiredArgsConstructor
+@Bulkhead(Bulkhead.READS)
 public class BookingController {
 
     private static final String DEFAULT_BOOKING_STATE = "ALL";
@@ -29,6 +31,7 @@ public class BookingController {
     private final BookingService bookingService;
 
     @Logging
+    @Bulkhead(Bulkhead.BOOKING_WRITES)
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public BookingDto create(@RequestHeader(HEADER_USER_ID) long userId,
@@ -39,6 +42,7 @@ public class BookingController {
     }
 
     @Logging
+    @Bulkhead(Bulkhead.BOOKING_WRITES)
     @PatchMapping("/{bookingId}")
     public BookingDto approve(@RequestHeader(HEADER_USER_ID) long ownerId,
                               @PathVariable long bookingId,
@@ -54,6 +58,7 @@ public class BookingController {
     }
 
     @Logging
+    @Bulkhead(Bulkhead.LISTINGS)
     @GetMapping
     public List<BookingDto> getAllForUser(@RequestHeader(HEADER_USER_ID) long bookerId,
                                           @RequestParam(defaultValue = DEFAULT_BOOKING_STATE) String state,
@@ -65,6 +70,7 @@ public class BookingController {
     }
 
     @Logging
+    @Bulkhead(Bulkhead.LISTINGS)
     @GetMapping("/owner")
     public List<BookingDto> getAllForOwner(@RequestHeader(HEADER_USER_ID) long ownerId,
                                            @RequestParam(defaultValue = DEFAULT_BOOKING_STATE) String state,
@@ -0,0 +1,52 @@
+package ru.practicum.shareit.booking.archive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Moves finished bookings older than the configured horizon from the hot {@code booking} table
+ * to {@code booking_archive}. Waiting bookings are never archived so they can still be approved.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "shareit.booking.archive", name = "enabled", havingValue = "true")
+public class BookingArchiveJob {
+
+    private final BookingRepository bookingRepository;
+    private final BookingArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${shareit.booking.archive.cron:0 0 3 * * *}")
+    public void archive() {
+        var endBefore = LocalDateTime.now().minus(properties.getHorizon());
+        long total = 0;
+        int moved;
+        do {
+            moved = moveBatch(endBefore);
+            total += moved;
+        } while (moved == properties.getBatchSize());
+        log.info("Archived {} bookings ended before {}", total, endBefore);
+    }
+
+    private int moveBatch(LocalDateTime endBefore) {
+        Integer moved = transactionTemplate.execute(status -> {
+            var ids = bookingRepository.findArchivableIds(endBefore, PageRequest.of(0, properties.getBatchSize()));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            bookingRepository.copyToArchive(ids);
+            bookingRepository.deleteArchived(ids);
+            return ids.size();
+        });
+        return moved == null ? 0 : moved;
+    }
+}
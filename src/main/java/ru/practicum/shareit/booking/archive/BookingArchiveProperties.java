@@ -0,0 +1,28 @@
+package ru.practicum.shareit.booking.archive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.booking.archive")
+public class BookingArchiveProperties {
+
+    /**
+     * Whether finished bookings are periodically moved to the {@code booking_archive} table.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Bookings that ended longer than this ago are archived.
+     */
+    private Duration horizon = Duration.ofDays(365);
+
+    /**
+     * Maximum number of bookings moved in one transaction.
+     */
+    private int batchSize = 1000;
+}
@@ -0,0 +1,49 @@
+package ru.practicum.shareit.booking.dao;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.booking.model.BookingHistory;
+import ru.practicum.shareit.booking.model.BookingView;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface BookingHistoryRepository extends JpaRepository<BookingHistory, Long> {
+
+    @Query("select b from BookingHistory as b " +
+            "where b.id = ?1 and (b.booker.id = ?2 or b.item.owner.id = ?2)")
+    @EntityGraph("booking-history-graph")
+    Optional<BookingHistory> findByIdAndUserId(long id, long userId);
+
+    @Query(BookingView.SELECT + "BookingHistory b join b.item i where b.booker.id = ?1")
+    List<BookingView> findViewsByBookerId(long bookerId, Pageable pageable);
+
+    @Query(BookingView.SELECT + "BookingHistory b join b.item i where b.booker.id = ?1 and b.status = ?2")
+    List<BookingView> findViewsByBookerIdAndStatus(long bookerId, BookingStatus status, Pageable pageable);
+
+    @Query(BookingView.SELECT + "BookingHistory b join b.item i where b.booker.id = ?1 and b.end < ?2")
+    List<BookingView> findViewsByBookerIdAndEndBefore(long bookerId, LocalDateTime date, Pageable pageable);
+
+    @Query(BookingView.SELECT + "BookingHistory b join b.item i where i.owner.id = ?1")
+    List<BookingView> findViewsByItemOwnerId(long ownerId, Pageable pageable);
+
+    @Query(BookingView.SELECT + "BookingHistory b join b.item i where i.owner.id = ?1 and b.status = ?2")
+    List<BookingView> findViewsByItemOwnerIdAndStatus(long ownerId, BookingStatus status, Pageable pageable);
+
+    @Query(BookingView.SELECT + "BookingHistory b join b.item i where i.owner.id = ?1 and b.end < ?2")
+    List<BookingView> findViewsByItemOwnerIdAndEndBefore(long ownerId, LocalDateTime date, Pageable pageable);
+
+    /**
+     * Items with an approved or waiting booking overlapping the range.
+     */
+    @Query("select distinct b.item.id from BookingHistory b " +
+            "where b.status in ('APPROVED', 'WAITING') and b.start < ?2 and b.end > ?1")
+    List<Long> findItemIdsBookedBetween(LocalDateTime from, LocalDateTime to);
+
+    boolean existsByItemIdAndBookerIdAndStatusAndEndBefore(long itemId, long bookerId,
+                                                           BookingStatus status, LocalDateTime dateTime);
+}
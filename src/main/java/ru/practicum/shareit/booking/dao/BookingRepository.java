@@ -4,58 +4,35 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import ru.practicum.shareit.booking.enums.BookingStatus;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingShort;
+import ru.practicum.shareit.booking.model.BookingView;
 
+import javax.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    @Query("select b from Booking as b " +
-            "where b.id = ?1 and (b.booker.id = ?2 or b.item.owner.id = ?2)")
-    @EntityGraph("booking-graph")
-    Optional<Booking> findByIdAndUserId(long id, long userId);
-
     @EntityGraph("booking-graph")
     Optional<Booking> findByIdAndItemOwnerId(long id, long ownerId);
 
-    @EntityGraph("booking-graph")
-    List<Booking> findAllByBookerId(long bookerId, Pageable pageable);
-
-    @EntityGraph("booking-graph")
-    List<Booking> findAllByBookerIdAndStatus(long bookerId, BookingStatus status, Pageable pageable);
-
-    @EntityGraph("booking-graph")
-    List<Booking> findAllByBookerIdAndStartAfter(long bookerId, LocalDateTime date, Pageable pageable);
+    @Query(BookingView.SELECT + "Booking b join b.item i where b.booker.id = ?1 and b.start > ?2")
+    List<BookingView> findViewsByBookerIdAndStartAfter(long bookerId, LocalDateTime date, Pageable pageable);
 
-    @Query("select b from Booking as b " +
-            "where b.booker.id = ?1 and (?2 between b.start and b.end) ")
-    @EntityGraph("booking-graph")
-    List<Booking> findAllByBookerCurrent(long bookerId, LocalDateTime date, Pageable pageable);
+    @Query(BookingView.SELECT + "Booking b join b.item i where b.booker.id = ?1 and (?2 between b.start and b.end)")
+    List<BookingView> findViewsByBookerCurrent(long bookerId, LocalDateTime date, Pageable pageable);
 
-    @EntityGraph("booking-graph")
-    List<Booking> findAllByBookerIdAndEndBefore(long bookerId, LocalDateTime date, Pageable pageable);
+    @Query(BookingView.SELECT + "Booking b join b.item i where i.owner.id = ?1 and b.start > ?2")
+    List<BookingView> findViewsByItemOwnerIdAndStartAfter(long ownerId, LocalDateTime date, Pageable pageable);
 
-    @EntityGraph("booking-graph")
-    List<Booking> findAllByItemOwnerId(long bookerId, Pageable pageable);
-
-    @EntityGraph("booking-graph")
-    List<Booking> findAllByItemOwnerIdAndStatus(long bookerId, BookingStatus status, Pageable pageable);
-
-    @EntityGraph("booking-graph")
-    List<Booking> findAllByItemOwnerIdAndStartAfter(long bookerId, LocalDateTime date, Pageable pageable);
-
-    @Query("select b from Booking as b " +
-            "where b.item.owner.id = ?1 and (?2 between b.start and b.end) ")
-    @EntityGraph("booking-graph")
-    List<Booking> findAllByItemOwnerCurrent(long bookerId, LocalDateTime date, Pageable pageable);
-
-    @EntityGraph("booking-graph")
-    List<Booking> findAllByItemOwnerIdAndEndBefore(long bookerId, LocalDateTime date, Pageable pageable);
+    @Query(BookingView.SELECT + "Booking b join b.item i where i.owner.id = ?1 and (?2 between b.start and b.end)")
+    List<BookingView> findViewsByItemOwnerCurrent(long ownerId, LocalDateTime date, Pageable pageable);
 
     @Query("select b from Booking b where b.item.id in ?1 and b.status = 'APPROVED'")
     List<Booking> findAllBookingsByItemIdIn(List<Long> items, Sort sort);
@@ -64,16 +41,29 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<Booking> findBookingsByItem(long itemId);
 
     @Query("select new ru.practicum.shareit.booking.model.BookingShort(b.id, b.item.id, b.booker.id, b.start, b.end) " +
-            "from Booking b " +
+            "from BookingHistory b " +
             "where b.item.id in ?1 and b.status = 'APPROVED'")
     List<BookingShort> findAllBookingsShortByItemIdIn(List<Long> items, Sort sort);
 
     @Query("select new ru.practicum.shareit.booking.model.BookingShort(b.id, b.item.id, b.booker.id, b.start, b.end) " +
-            "from Booking b " +
+            "from BookingHistory b " +
             "where b.item.id = ?1 and b.status = 'APPROVED'")
     List<BookingShort> findBookingsShortByItem(long itemId);
 
-    @EntityGraph("booking-graph")
-    List<Booking> findByItemIdAndBookerIdAndStatusAndEndBefore(long itemId, long bookerId, BookingStatus status,
-                                                               LocalDateTime dateTime);
+    /**
+     * Locks the selected rows, so they do not change between copying and deleting them.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b.id from Booking b where b.end < ?1 and b.status <> 'WAITING' order by b.id")
+    List<Long> findArchivableIds(LocalDateTime endBefore, Pageable pageable);
+
+    @Modifying
+    @Query(value = "insert into booking_archive (id, booker_id, item_id, status, start_booking, end_booking) " +
+            "select id, booker_id, item_id, status, start_booking, end_booking from booking where id in ?1",
+            nativeQuery = true)
+    int copyToArchive(Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "delete from booking where id in ?1", nativeQuery = true)
+    int deleteArchived(Collection<Long> ids);
 }
\ No newline at end of file
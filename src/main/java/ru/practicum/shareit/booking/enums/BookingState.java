@@ -2,6 +2,7 @@ package ru.practicum.shareit.booking.enums;
 
 import java.util.Arrays;
 import java.util.stream.Collectors;
+import ru.practicum.shareit.exception.BadRequestException;
 import ru.practicum.shareit.exception.ErrorMessages;
 
 public enum BookingState {
@@ -15,6 +16,6 @@ public enum BookingState {
         if (isCorrect) {
             return BookingState.valueOf(name);
         }
-        throw new IllegalArgumentException(ErrorMessages.UNKNOWN_STATE.getFormatMessage(name));
+        throw new BadRequestException(ErrorMessages.UNKNOWN_STATE.getFormatMessage(name));
     }
 }
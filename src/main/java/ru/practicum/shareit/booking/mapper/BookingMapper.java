@@ -6,6 +6,8 @@ import ru.practicum.shareit.booking.dto.BookingCreateDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingHistory;
+import ru.practicum.shareit.booking.model.BookingView;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 
@@ -23,6 +25,15 @@ public interface BookingMapper {
 
     List<BookingDto> toDto(List<Booking> bookings);
 
+    BookingDto toDto(BookingHistory booking);
+
+    @Mapping(target = "booker.id", source = "bookerId")
+    @Mapping(target = "item.id", source = "itemId")
+    @Mapping(target = "item.name", source = "itemName")
+    BookingDto viewToDto(BookingView booking);
+
+    List<BookingDto> viewToDto(List<BookingView> bookings);
+
     BookingShortDto toShortDto(Booking booking);
 
     List<BookingShortDto> toShortDto(List<Booking> bookings);
@@ -0,0 +1,44 @@
+package ru.practicum.shareit.booking.model;
+
+import lombok.Getter;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Synchronize;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view over both hot ({@code booking}) and archived ({@code booking_archive}) bookings.
+ */
+@Entity
+@Getter
+@Immutable
+@Table(name = "booking_history")
+@Synchronize({"booking", "booking_archive"})
+@NamedEntityGraph(name = "booking-history-graph", attributeNodes = {
+        @NamedAttributeNode("item"),
+        @NamedAttributeNode("booker")})
+public class BookingHistory {
+
+    @Id
+    private Long id;
+
+    @JoinColumn(name = "item_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Item item;
+
+    @JoinColumn(name = "booker_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    private User booker;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BookingStatus status;
+    @Column(name = "start_booking", nullable = false)
+    private LocalDateTime start;
+    @Column(name = "end_booking", nullable = false)
+    private LocalDateTime end;
+}
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.booking.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns of a booking listing, selected with a constructor expression instead of loading
+ * the booking with its item and booker.
+ */
+@Data
+@AllArgsConstructor
+public class BookingView {
+
+    /**
+     * Start of a listing query; to be followed by the entity with alias {@code b} joined to its item as {@code i}.
+     */
+    public static final String SELECT = "select new ru.practicum.shareit.booking.model.BookingView(" +
+            "b.id, b.booker.id, i.id, i.name, b.start, b.end, b.status) from ";
+
+    private Long id;
+    private Long bookerId;
+    private Long itemId;
+    private String itemName;
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private BookingStatus status;
+}
@@ -1,9 +1,11 @@
 package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dao.BookingHistoryRepository;
 import ru.practicum.shareit.booking.dao.BookingRepository;
 import ru.practicum.shareit.booking.dto.BookingCreateDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
@@ -15,6 +17,7 @@ import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.exception.AccessDeniedException;
 import ru.practicum.shareit.exception.ErrorMessages;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.cache.OwnerItemsChangedEvent;
 import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.user.dao.UserRepository;
 
@@ -29,7 +32,9 @@ public class BookingServiceImpl implements BookingService {
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
     private final BookingRepository bookingRepository;
+    private final BookingHistoryRepository bookingHistoryRepository;
     private final BookingMapper bookingMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -52,7 +57,7 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional(readOnly = true)
     public BookingDto findById(long id, Long userId) {
-        var booking = bookingRepository.findByIdAndUserId(id, userId)
+        var booking = bookingHistoryRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new NotFoundException(ErrorMessages.BOOKING_NOT_FOUND.getFormatMessage(id)));
         return bookingMapper.toDto(booking);
     }
@@ -67,6 +72,7 @@ public class BookingServiceImpl implements BookingService {
         }
         booking.setStatus(approved ? BookingStatus.APPROVED : BookingStatus.REJECTED);
         bookingRepository.save(booking);
+        eventPublisher.publishEvent(OwnerItemsChangedEvent.forOwner(ownerId));
         return bookingMapper.toDto(booking);
     }
 
@@ -75,28 +81,33 @@ public class BookingServiceImpl implements BookingService {
     public List<BookingDto> findAllForUser(Long bookerId, BookingState state, Pageable pageable) {
         userRepository.findById(bookerId)
                 .orElseThrow(() -> new NotFoundException(ErrorMessages.USER_NOT_FOUND.getFormatMessage(bookerId)));
-        List<Booking> result = Collections.emptyList();
+        List<BookingDto> result = Collections.emptyList();
         switch (state) {
             case ALL:
-                result = bookingRepository.findAllByBookerId(bookerId, pageable);
+                result = bookingMapper.viewToDto(bookingHistoryRepository.findViewsByBookerId(bookerId, pageable));
                 break;
             case CURRENT:
-                result = bookingRepository.findAllByBookerCurrent(bookerId, LocalDateTime.now(), pageable);
+                result = bookingMapper.viewToDto(bookingRepository.findViewsByBookerCurrent(bookerId,
+                        LocalDateTime.now(), pageable));
                 break;
             case REJECTED:
-                result = bookingRepository.findAllByBookerIdAndStatus(bookerId, BookingStatus.REJECTED, pageable);
+                result = bookingMapper.viewToDto(bookingHistoryRepository.findViewsByBookerIdAndStatus(bookerId,
+                        BookingStatus.REJECTED, pageable));
                 break;
             case WAITING:
-                result = bookingRepository.findAllByBookerIdAndStatus(bookerId, BookingStatus.WAITING, pageable);
+                result = bookingMapper.viewToDto(bookingHistoryRepository.findViewsByBookerIdAndStatus(bookerId,
+                        BookingStatus.WAITING, pageable));
                 break;
             case FUTURE:
-                result = bookingRepository.findAllByBookerIdAndStartAfter(bookerId, LocalDateTime.now(), pageable);
+                result = bookingMapper.viewToDto(bookingRepository.findViewsByBookerIdAndStartAfter(bookerId,
+                        LocalDateTime.now(), pageable));
                 break;
             case PAST:
-                result = bookingRepository.findAllByBookerIdAndEndBefore(bookerId, LocalDateTime.now(), pageable);
+                result = bookingMapper.viewToDto(bookingHistoryRepository.findViewsByBookerIdAndEndBefore(bookerId,
+                        LocalDateTime.now(), pageable));
                 break;
         }
-        return bookingMapper.toDto(result);
+        return result;
     }
 
     @Override
@@ -105,31 +116,33 @@ public class BookingServiceImpl implements BookingService {
         userRepository.findById(ownerId)
                 .orElseThrow(() -> new NotFoundException(ErrorMessages.USER_NOT_FOUND.getFormatMessage(ownerId)));
 
-        List<Booking> result = Collections.emptyList();
+        List<BookingDto> result = Collections.emptyList();
         switch (state) {
             case ALL:
-                result = bookingRepository.findAllByItemOwnerId(ownerId, pageable);
+                result = bookingMapper.viewToDto(bookingHistoryRepository.findViewsByItemOwnerId(ownerId, pageable));
                 break;
             case CURRENT:
-                result = bookingRepository.findAllByItemOwnerCurrent(ownerId, LocalDateTime.now(), pageable);
+                result = bookingMapper.viewToDto(bookingRepository.findViewsByItemOwnerCurrent(ownerId,
+                        LocalDateTime.now(), pageable));
                 break;
             case REJECTED:
-                result = bookingRepository.findAllByItemOwnerIdAndStatus(ownerId, BookingStatus.REJECTED,
-                        pageable);
+                result = bookingMapper.viewToDto(bookingHistoryRepository.findViewsByItemOwnerIdAndStatus(ownerId,
+                        BookingStatus.REJECTED, pageable));
                 break;
             case WAITING:
-                result = bookingRepository.findAllByItemOwnerIdAndStatus(ownerId, BookingStatus.WAITING, pageable);
+                result = bookingMapper.viewToDto(bookingHistoryRepository.findViewsByItemOwnerIdAndStatus(ownerId,
+                        BookingStatus.WAITING, pageable));
                 break;
             case FUTURE:
-                result = bookingRepository.findAllByItemOwnerIdAndStartAfter(ownerId, LocalDateTime.now(),
-                        pageable);
+                result = bookingMapper.viewToDto(bookingRepository.findViewsByItemOwnerIdAndStartAfter(ownerId,
+                        LocalDateTime.now(), pageable));
                 break;
             case PAST:
-                result = bookingRepository.findAllByItemOwnerIdAndEndBefore(ownerId, LocalDateTime.now(),
-                        pageable);
+                result = bookingMapper.viewToDto(bookingHistoryRepository.findViewsByItemOwnerIdAndEndBefore(ownerId,
+                        LocalDateTime.now(), pageable));
                 break;
         }
-        return bookingMapper.toDto(result);
+        return result;
     }
 
     @Override
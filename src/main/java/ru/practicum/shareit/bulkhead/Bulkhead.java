@@ -0,0 +1,25 @@
+package ru.practicum.shareit.bulkhead;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the method, or every method of the class, in the named bulkhead: at most
+ * {@code shareit.bulkhead.limits.<name>.max-concurrent} calls run at once, so one kind of request cannot take
+ * all database connections. A method annotation wins over the class one; every controller carries a class one,
+ * so no endpoint runs outside a bulkhead.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+
+    String SEARCH = "search";
+    String LISTINGS = "listings";
+    String READS = "reads";
+    String WRITES = "writes";
+    String BOOKING_WRITES = "booking-writes";
+
+    String value();
+}
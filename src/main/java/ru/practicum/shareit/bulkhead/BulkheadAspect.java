@@ -0,0 +1,87 @@
+package ru.practicum.shareit.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implements {@link Bulkhead} with a semaphore per bulkhead. Calls run on the request thread, so they keep its
+ * transaction and thread-locals; the bulkheads split the one connection pool instead of opening a pool each.
+ * A call not admitted within {@code max-wait} fails with {@link BulkheadFullException}. Reports
+ * {@code shareit.bulkhead.active} and {@code shareit.bulkhead.max.concurrent} gauges and
+ * {@code shareit.bulkhead.rejections} per bulkhead.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "shareit.bulkhead", name = "enabled", matchIfMissing = true)
+public class BulkheadAspect {
+
+    private final Map<String, Compartment> compartments = new HashMap<>();
+
+    public BulkheadAspect(BulkheadProperties properties, MeterRegistry registry) {
+        properties.getLimits().forEach((name, limit) -> compartments.put(name, new Compartment(name, limit, registry)));
+    }
+
+    @Around("@annotation(ru.practicum.shareit.bulkhead.Bulkhead) || @within(ru.practicum.shareit.bulkhead.Bulkhead)")
+    public Object isolate(ProceedingJoinPoint joinPoint) throws Throwable {
+        var name = bulkhead(joinPoint);
+        var compartment = compartments.get(name);
+        if (compartment == null) {
+            throw new IllegalStateException("Bulkhead " + name + " is not configured in shareit.bulkhead.limits");
+        }
+        if (!compartment.semaphore.tryAcquire(compartment.maxWait, TimeUnit.NANOSECONDS)) {
+            compartment.rejections.increment();
+            throw new BulkheadFullException(name);
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            compartment.semaphore.release();
+        }
+    }
+
+    private static String bulkhead(ProceedingJoinPoint joinPoint) {
+        var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        var annotation = AnnotatedElementUtils.findMergedAnnotation(method, Bulkhead.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(AopUtils.getTargetClass(joinPoint.getTarget()),
+                    Bulkhead.class);
+        }
+        return annotation.value();
+    }
+
+    private static final class Compartment {
+
+        private final Semaphore semaphore;
+        private final long maxWait;
+        private final Counter rejections;
+
+        Compartment(String name, BulkheadProperties.Limit limit, MeterRegistry registry) {
+            var maxConcurrent = Math.max(1, limit.getMaxConcurrent());
+            this.semaphore = new Semaphore(maxConcurrent);
+            this.maxWait = limit.getMaxWait().toNanos();
+            this.rejections = Counter.builder("shareit.bulkhead.rejections")
+                    .tag("bulkhead", name)
+                    .register(registry);
+            Gauge.builder("shareit.bulkhead.active", semaphore, s -> maxConcurrent - s.availablePermits())
+                    .tag("bulkhead", name)
+                    .register(registry);
+            Gauge.builder("shareit.bulkhead.max.concurrent", () -> maxConcurrent)
+                    .tag("bulkhead", name)
+                    .register(registry);
+        }
+    }
+}
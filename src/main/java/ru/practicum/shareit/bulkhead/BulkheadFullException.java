@@ -0,0 +1,11 @@
+package ru.practicum.shareit.bulkhead;
+
+import ru.practicum.shareit.exception.DomainException;
+import ru.practicum.shareit.exception.ErrorMessages;
+
+public class BulkheadFullException extends DomainException {
+
+    public BulkheadFullException(String bulkhead) {
+        super(ErrorMessages.BULKHEAD_FULL.getFormatMessage(bulkhead));
+    }
+}
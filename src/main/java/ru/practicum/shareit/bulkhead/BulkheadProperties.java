@@ -0,0 +1,44 @@
+package ru.practicum.shareit.bulkhead;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Bulkheads by the name used in {@link Bulkhead}. Together they stay below the connection pool size,
+     * leaving connections to the scheduled jobs.
+     */
+    private Map<String, Limit> limits = new HashMap<>(Map.of(
+            Bulkhead.SEARCH, new Limit(3, Duration.ofMillis(100)),
+            Bulkhead.LISTINGS, new Limit(4, Duration.ofMillis(200)),
+            Bulkhead.READS, new Limit(4, Duration.ofMillis(200)),
+            Bulkhead.WRITES, new Limit(3, Duration.ofSeconds(1)),
+            Bulkhead.BOOKING_WRITES, new Limit(4, Duration.ofSeconds(1))));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        private int maxConcurrent;
+
+        /**
+         * How long a call waits for a place before it is rejected.
+         */
+        private Duration maxWait = Duration.ZERO;
+    }
+}
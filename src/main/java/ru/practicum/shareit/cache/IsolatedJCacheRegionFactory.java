@@ -0,0 +1,26 @@
+package ru.practicum.shareit.cache;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JCache region factory that gives every session factory its own cache manager.
+ * Hibernate closes the manager on shutdown, so sharing the provider's default one
+ * breaks any other session factory living in the same class loader (e.g. cached test contexts).
+ * Region settings are still read from {@code application.conf}.
+ */
+public class IsolatedJCacheRegionFactory extends JCacheRegionFactory {
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map properties) {
+        CachingProvider provider = getCachingProvider(properties);
+        return provider.getCacheManager(URI.create("shareit:l2:" + UUID.randomUUID()), getClassLoader(provider));
+    }
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.datasource;
+
+/**
+ * Holds the {@code X-Sharer-User-Id} of the request being served by the current thread.
+ */
+public final class CurrentUser {
+
+    private static final ThreadLocal<Long> USER_ID = new ThreadLocal<>();
+
+    private CurrentUser() {
+    }
+
+    public static Long get() {
+        return USER_ID.get();
+    }
+
+    public static void set(Long userId) {
+        USER_ID.set(userId);
+    }
+
+    public static void clear() {
+        USER_ID.remove();
+    }
+}
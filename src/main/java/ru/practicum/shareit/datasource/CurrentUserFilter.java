@@ -0,0 +1,40 @@
+package ru.practicum.shareit.datasource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@Component
+@ConditionalOnProperty(prefix = "shareit.datasource.replica", name = "url")
+public class CurrentUserFilter extends OncePerRequestFilter {
+
+    private static final String HEADER_USER_ID = "X-Sharer-User-Id";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CurrentUser.set(parse(request.getHeader(HEADER_USER_ID)));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            CurrentUser.clear();
+        }
+    }
+
+    private Long parse(String header) {
+        if (header == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(header.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
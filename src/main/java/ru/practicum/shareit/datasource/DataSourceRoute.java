@@ -0,0 +1,5 @@
+package ru.practicum.shareit.datasource;
+
+public enum DataSourceRoute {
+    PRIMARY, REPLICA
+}
@@ -0,0 +1,23 @@
+package ru.practicum.shareit.datasource;
+
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.QueryHint;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a repository query of a listing whose entities are only mapped to DTOs. The entities are loaded
+ * read-only, so Hibernate keeps no snapshot of them and never dirty-checks them, and the query does not flush
+ * the session first. Read-only transactions already behave so; the hints also cover a listing joining
+ * a read-write transaction. Changes made later in that transaction to an entity loaded so are not saved.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@QueryHints({
+        @QueryHint(name = org.hibernate.annotations.QueryHints.READ_ONLY, value = "true"),
+        @QueryHint(name = org.hibernate.annotations.QueryHints.FLUSH_MODE, value = "MANUAL")})
+public @interface ReadOnlyQuery {
+}
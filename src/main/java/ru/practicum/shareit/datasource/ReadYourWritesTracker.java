@@ -0,0 +1,30 @@
+package ru.practicum.shareit.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Remembers users that committed a write recently, so their reads are served by the primary
+ * until the replica has had time to catch up.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window, long maximumSize) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public void markWrite(long userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    public boolean isRecentWriter(long userId) {
+        return recentWriters.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary.
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * otherwise the connection is taken before the transaction is marked read-only.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker tracker;
+    private final Map<DataSourceRoute, LongAdder> routed = new EnumMap<>(DataSourceRoute.class);
+
+    public ReplicaRoutingDataSource(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+        for (var route : DataSourceRoute.values()) {
+            routed.put(route, new LongAdder());
+        }
+    }
+
+    public long getRoutedCount(DataSourceRoute route) {
+        return routed.get(route).sum();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        var route = route();
+        routed.get(route).increment();
+        return route;
+    }
+
+    private DataSourceRoute route() {
+        var userId = CurrentUser.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        tracker.markWrite(userId);
+                    }
+                });
+            }
+            return DataSourceRoute.PRIMARY;
+        }
+        if (userId != null && tracker.isRecentWriter(userId)) {
+            return DataSourceRoute.PRIMARY;
+        }
+        return DataSourceRoute.REPLICA;
+    }
+}
@@ -1,8 +1,8 @@
 package ru.practicum.shareit.exception;
 
-public class AccessDeniedException extends RuntimeException {
+public class AccessDeniedException extends DomainException {
 
     public AccessDeniedException(String message) {
         super(message);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.exception;
+
+/**
+ * A request parameter or a combination of them the service cannot accept, such as an unknown state name.
+ */
+public class BadRequestException extends DomainException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import ru.practicum.shareit.bulkhead.BulkheadFullException;
 
 import javax.validation.ValidationException;
 
@@ -42,6 +43,13 @@ public class ControllerExceptionHandler {
         return new ErrorDto(e.getMessage());
     }
 
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler
+    public ErrorDto exceptionHandler(BadRequestException e) {
+        log.info("BadRequestException: {}", e.getMessage());
+        return new ErrorDto(e.getMessage());
+    }
+
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler
     public ErrorDto exceptionHandler(AccessDeniedException e) {
@@ -49,6 +57,13 @@ public class ControllerExceptionHandler {
         return new ErrorDto(e.getMessage());
     }
 
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler
+    public ErrorDto exceptionHandler(BulkheadFullException e) {
+        log.info("BulkheadFullException: {}", e.getMessage());
+        return new ErrorDto(e.getMessage());
+    }
+
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler
     public ErrorDto exceptionHandler(IllegalArgumentException e) {
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.exception;
+
+/**
+ * An expected error of a request, turned into a 4xx or 503 response by {@link ControllerExceptionHandler}.
+ * No stack trace is captured: these are thrown on normal control flow (unknown ids, foreign items),
+ * and the handler logs only the message.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+}
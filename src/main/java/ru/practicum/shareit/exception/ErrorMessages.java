@@ -1,5 +1,6 @@
 package ru.practicum.shareit.exception;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 @Getter
@@ -13,21 +14,41 @@ public enum ErrorMessages {
     STATUS_APPROVED("status already approved"),
     OWNER_UPDATE("only owner can update item"),
     OWNER_DELETE("only owner can delete item"),
+    OWNER_REQUEST_MATCHES("only owner can see requests matching item"),
     REVIEW_WITHOUT_BOOKING("you cannot create a review without booking"),
     UNKNOWN_STATE("Unknown state: %s"),
+    UNKNOWN_SORT("Unknown sort: %s"),
+    INVALID_LOCATION("latitude and longitude must be set together"),
+    LOCATION_REQUIRED("location is required for a nearby search"),
+    INVALID_FEED_CURSOR("beforeCreated and beforeId must be set together and without from"),
+    INVALID_FREE_RANGE("freeFrom and freeTo must be set together, freeFrom before freeTo"),
+    TOO_MANY_REQUESTS("too many requests, retry later"),
+    SERVICE_OVERLOADED("service is overloaded, retry later"),
+    BULKHEAD_FULL("too many %s requests, retry later"),
     VALIDATION_EXCEPTION("Validation exception");
 
     private final String message;
+    /**
+     * The message around its only placeholder, split once so formatting is a concatenation;
+     * a message without a placeholder has a null suffix.
+     */
+    @Getter(AccessLevel.NONE)
+    private final String prefix;
+    @Getter(AccessLevel.NONE)
+    private final String suffix;
 
     ErrorMessages(String message) {
         this.message = message;
+        var placeholder = message.indexOf('%');
+        this.prefix = placeholder < 0 ? message : message.substring(0, placeholder);
+        this.suffix = placeholder < 0 ? null : message.substring(placeholder + 2);
     }
 
     public String getFormatMessage(long arg) {
-        return String.format(message, arg);
+        return suffix == null ? message : prefix + arg + suffix;
     }
 
     public String getFormatMessage(String arg) {
-        return String.format(message, arg);
+        return suffix == null ? message : prefix + arg + suffix;
     }
-}
\ No newline at end of file
+}
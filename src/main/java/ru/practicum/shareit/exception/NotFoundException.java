@@ -1,8 +1,8 @@
 package ru.practicum.shareit.exception;
 
-public class NotFoundException extends RuntimeException {
+public class NotFoundException extends DomainException {
 
     public NotFoundException(String message) {
         super(message);
     }
-}
\ No newline at end of file
+}
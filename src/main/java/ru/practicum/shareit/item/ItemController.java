@@ -6,30 +6,44 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.bulkhead.Bulkhead;
 import ru.practicum.shareit.constraint.Update;
 import ru.practicum.shareit.item.dto.CommentCreateDto;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemSearchFilter;
+import ru.practicum.shareit.item.dto.ItemSearchResultDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingsDto;
+import ru.practicum.shareit.item.enums.ItemSort;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.logging.Logging;
+import ru.practicum.shareit.request.dto.RequestMatchDto;
+import ru.practicum.shareit.util.Locations;
 import ru.practicum.shareit.util.PageRequestWithOffset;
 
 import javax.validation.Valid;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
+import javax.validation.constraints.Positive;
 import java.util.List;
 
 @Validated
 @RestController
 @RequestMapping("/items")
 @RequiredArgsConstructor
+@Bulkhead(Bulkhead.READS)
 public class ItemController {
 
     private final ItemService itemService;
 
     private static final String HEADER_USER_ID = "X-Sharer-User-Id";
+    private static final String DEFAULT_SEARCH_SORT = "NONE";
+    private static final int MAX_COMMENTS_PAGE_SIZE = 100;
 
     @Logging
+    @Bulkhead(Bulkhead.WRITES)
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public ItemDto create(@RequestHeader(HEADER_USER_ID) long userId,
@@ -44,6 +58,7 @@ public class ItemController {
     }
 
     @Logging
+    @Bulkhead(Bulkhead.LISTINGS)
     @GetMapping
     public List<ItemWithBookingsDto> getAll(@RequestHeader(HEADER_USER_ID) long userId,
                                             @RequestParam(defaultValue = "0") @Min(0) int from,
@@ -53,6 +68,7 @@ public class ItemController {
     }
 
     @Logging
+    @Bulkhead(Bulkhead.WRITES)
     @PatchMapping("/{id}")
     public ItemDto update(@RequestHeader(HEADER_USER_ID) long userId,
                           @PathVariable long id,
@@ -62,6 +78,7 @@ public class ItemController {
     }
 
     @Logging
+    @Bulkhead(Bulkhead.WRITES)
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void delete(@RequestHeader(HEADER_USER_ID) long userId,
@@ -70,19 +87,71 @@ public class ItemController {
     }
 
     @Logging
+    @Bulkhead(Bulkhead.SEARCH)
     @GetMapping("/search")
-    public List<ItemDto> search(@RequestParam String text,
+    public List<ItemDto> search(@RequestHeader(value = HEADER_USER_ID, required = false) Long userId,
+                                @RequestParam String text,
                                 @RequestParam(defaultValue = "0") @Min(0) int from,
-                                @RequestParam(defaultValue = "10") @Min(1) int size) {
-        Pageable pageable = PageRequestWithOffset.of(from, size);
+                                @RequestParam(defaultValue = "10") @Min(1) int size,
+                                @RequestParam(defaultValue = DEFAULT_SEARCH_SORT) String sort,
+                                @RequestParam(defaultValue = "false") boolean fuzzy,
+                                @RequestParam(defaultValue = "false") boolean nearby,
+                                @RequestParam(required = false) @DecimalMin("-90") @DecimalMax("90") Double lat,
+                                @RequestParam(required = false) @DecimalMin("-180") @DecimalMax("180") Double lon,
+                                @RequestParam(required = false) @Positive Double radius) {
+        Locations.check(lat, lon);
+        if (nearby || lat != null || lon != null || radius != null) {
+            return itemService.nearbySearch(userId, text, lat, lon, radius, PageRequestWithOffset.of(from, size));
+        }
+        if (fuzzy) {
+            return itemService.fuzzySearch(text, PageRequestWithOffset.of(from, size));
+        }
+        Pageable pageable = PageRequestWithOffset.of(from, size, ItemSort.parse(sort).getSort());
         return itemService.search(text, pageable);
     }
 
     @Logging
+    @Bulkhead(Bulkhead.SEARCH)
+    @GetMapping("/search/faceted")
+    public ItemSearchResultDto facetedSearch(@RequestParam(defaultValue = "") String text,
+                                             ItemSearchFilter filter,
+                                             @RequestParam(defaultValue = "0") @Min(0) int from,
+                                             @RequestParam(defaultValue = "10") @Min(1) int size,
+                                             @RequestParam(defaultValue = "10") @Min(1) int facetSize) {
+        return itemService.facetedSearch(text, filter, PageRequestWithOffset.of(from, size), facetSize);
+    }
+
+    @Logging
+    @Bulkhead(Bulkhead.SEARCH)
+    @GetMapping("/suggest")
+    public List<String> suggest(@RequestParam String prefix,
+                                @RequestParam(defaultValue = "10") @Min(1) int size) {
+        return itemService.suggest(prefix, size);
+    }
+
+    @Logging
+    @Bulkhead(Bulkhead.WRITES)
     @PostMapping("/{itemId}/comment")
     public CommentDto createComment(@RequestHeader(HEADER_USER_ID) long userId,
                                     @PathVariable long itemId,
                                     @RequestBody @Valid CommentCreateDto commentCreateDto) {
         return itemService.createComment(userId, itemId, commentCreateDto);
     }
-}
\ No newline at end of file
+
+    @Logging
+    @Bulkhead(Bulkhead.LISTINGS)
+    @GetMapping("/{itemId}/comments")
+    public List<CommentDto> getComments(@PathVariable long itemId,
+                                        @RequestParam(required = false) @Min(1) Long before,
+                                        @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_COMMENTS_PAGE_SIZE)
+                                        int size) {
+        return itemService.getComments(itemId, before, size);
+    }
+
+    @Logging
+    @GetMapping("/{itemId}/request-matches")
+    public List<RequestMatchDto> getRequestMatches(@RequestHeader(HEADER_USER_ID) long userId,
+                                                   @PathVariable long itemId) {
+        return itemService.getRequestMatches(userId, itemId);
+    }
+}
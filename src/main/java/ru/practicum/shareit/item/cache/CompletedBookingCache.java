@@ -0,0 +1,55 @@
+package ru.practicum.shareit.item.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Remembers item/booker pairs with a finished approved booking. Only positive answers are kept:
+ * an approved booking cannot change its status and a finished one stays finished (also when archived).
+ */
+@Component
+public class CompletedBookingCache {
+
+    private final Cache<Key, Boolean> cache;
+
+    public CompletedBookingCache(
+            @Value("${shareit.item.completed-booking-cache.maximum-size:100000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public boolean isCompleted(long itemId, long bookerId) {
+        return cache.getIfPresent(new Key(itemId, bookerId)) != null;
+    }
+
+    /**
+     * Stores the pair once the current transaction commits, so a rolled back booking is never remembered.
+     */
+    public void markCompleted(long itemId, long bookerId) {
+        var key = new Key(itemId, bookerId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.put(key, Boolean.TRUE);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.put(key, Boolean.TRUE);
+            }
+        });
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Key {
+        private final long itemId;
+        private final long bookerId;
+    }
+}
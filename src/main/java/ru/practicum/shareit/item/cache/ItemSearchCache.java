@@ -0,0 +1,166 @@
+package ru.practicum.shareit.item.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.text.Normalizer;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Caches {@code /items/search} pages by normalized query text and page. An item change evicts only the queries
+ * contained in the item's old or new name or description, as no other query can match it.
+ * <p>
+ * Cached keys are indexed by the first {@link #PREFIX_LENGTH} characters of their text. A query contained in
+ * a text starts with one of the text's substrings of at most that length, so an item change looks up those
+ * few substrings and checks only the keys found, whatever the number of cached pages.
+ */
+@Component
+public class ItemSearchCache implements MeterBinder {
+
+    private static final int PREFIX_LENGTH = 3;
+
+    private final Cache<Key, List<ItemDto>> cache;
+    /**
+     * Cached keys by the prefix of their text; a key is added and removed atomically with its cache entry.
+     */
+    private final ConcurrentMap<String, Set<Key>> keysByPrefix = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ItemSearchCache(ItemSearchCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .evictionListener((Key key, List<ItemDto> items, RemovalCause cause) -> unindex(key))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Lowercased, trimmed, NFC-normalized query text; searches are run with the normalized text as well.
+     */
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the cached page or loads it. Inside an already running transaction the cache is bypassed,
+     * as the loader could see changes that are not committed yet.
+     */
+    public List<ItemDto> get(String normalizedText, Pageable pageable, Supplier<List<ItemDto>> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        var key = new Key(normalizedText, pageable);
+        var items = cache.getIfPresent(key);
+        if (items != null) {
+            return items;
+        }
+        var stamp = invalidations.get();
+        items = Collections.unmodifiableList(loader.get());
+        var page = items;
+        cache.asMap().compute(key, (k, old) -> {
+            index(k);
+            return page;
+        });
+        // an invalidation that ran while loading may have missed the key, so drop the possibly stale page
+        if (invalidations.get() != stamp) {
+            invalidate(key);
+        }
+        return items;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemSearchChanged(ItemSearchChangedEvent event) {
+        invalidations.incrementAndGet();
+        if (event.getTexts() == null) {
+            // cleared first: a page cached meanwhile is either dropped below or indexed again
+            keysByPrefix.clear();
+            cache.invalidateAll();
+            return;
+        }
+        var texts = event.getTexts().stream()
+                .map(ItemSearchCache::normalize)
+                .collect(Collectors.toList());
+        Set<String> prefixes = new HashSet<>();
+        for (var text : texts) {
+            for (int start = 0; start < text.length(); start++) {
+                for (int end = start + 1; end <= Math.min(start + PREFIX_LENGTH, text.length()); end++) {
+                    prefixes.add(text.substring(start, end));
+                }
+            }
+        }
+        prefixes.stream()
+                .map(keysByPrefix::get)
+                .filter(Objects::nonNull)
+                .flatMap(Set::stream)
+                .filter(key -> texts.stream().anyMatch(text -> text.contains(key.text)))
+                .collect(Collectors.toList())
+                .forEach(this::invalidate);
+    }
+
+    int indexedKeyCount() {
+        cache.cleanUp();
+        return keysByPrefix.values().stream()
+                .mapToInt(Set::size)
+                .sum();
+    }
+
+    private void invalidate(Key key) {
+        cache.asMap().computeIfPresent(key, (k, items) -> {
+            unindex(k);
+            return null;
+        });
+    }
+
+    private void index(Key key) {
+        keysByPrefix.compute(prefix(key), (prefix, keys) -> {
+            var result = keys == null ? ConcurrentHashMap.<Key>newKeySet() : keys;
+            result.add(key);
+            return result;
+        });
+    }
+
+    private void unindex(Key key) {
+        keysByPrefix.computeIfPresent(prefix(key), (prefix, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private static String prefix(Key key) {
+        return key.text.substring(0, Math.min(PREFIX_LENGTH, key.text.length()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "itemSearch");
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Key {
+        private final String text;
+        private final Pageable pageable;
+    }
+}
@@ -0,0 +1,23 @@
+package ru.practicum.shareit.item.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.item.search-cache")
+public class ItemSearchCacheProperties {
+
+    /**
+     * Maximum number of cached search pages.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Safety bound for how long a search page is served after it was loaded.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
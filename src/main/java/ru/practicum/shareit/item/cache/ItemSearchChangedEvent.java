@@ -0,0 +1,31 @@
+package ru.practicum.shareit.item.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Published when searchable item data has changed. Carries the names and descriptions (before and after
+ * the change) of the affected items; an event without texts affects every search.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ItemSearchChangedEvent {
+
+    private final List<String> texts;
+
+    public static ItemSearchChangedEvent forTexts(String... texts) {
+        return new ItemSearchChangedEvent(Arrays.stream(texts)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+    }
+
+    public static ItemSearchChangedEvent forAll() {
+        return new ItemSearchChangedEvent(null);
+    }
+}
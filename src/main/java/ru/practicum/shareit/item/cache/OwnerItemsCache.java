@@ -0,0 +1,142 @@
+package ru.practicum.shareit.item.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.item.dto.ItemWithBookingsDto;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Caches {@code GET /items} pages per owner. A page is served until the earliest upcoming booking
+ * of its items starts (last/next bookings shift at that moment) or until the owner's data changes.
+ * <p>
+ * Pages are kept by owner and page request, bounded in number and dropped once they are no longer valid.
+ * Each owner has a generation token and a page is served only for the token it was loaded with, so
+ * invalidating an owner replaces one token instead of looking for the owner's pages.
+ */
+@Component
+public class OwnerItemsCache {
+
+    private final Cache<Long, Object> generations;
+    private final Cache<Key, Page> pages;
+    private final OwnerItemsCacheProperties properties;
+    private final Clock clock;
+
+    @Autowired
+    public OwnerItemsCache(OwnerItemsCacheProperties properties) {
+        this(properties, Clock.systemDefaultZone());
+    }
+
+    OwnerItemsCache(OwnerItemsCacheProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterAccess(properties.getExpireAfter())
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumPages())
+                .expireAfter(new Expiry<Key, Page>() {
+                    @Override
+                    public long expireAfterCreate(Key key, Page page, long currentTime) {
+                        return Math.max(0, Duration.between(LocalDateTime.now(clock), page.validUntil).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Key key, Page page, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, page, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Key key, Page page, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Returns the cached page or loads it. Inside an already running transaction the cache is bypassed,
+     * as the loader could see changes that are not committed yet.
+     */
+    public List<ItemWithBookingsDto> get(long ownerId, Pageable pageable,
+                                         Supplier<List<ItemWithBookingsDto>> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        var now = LocalDateTime.now(clock);
+        // Taken before loading: an invalidation during the load replaces it, so the stale page is never served.
+        var generation = generations.get(ownerId, id -> new Object());
+        var key = new Key(ownerId, pageable);
+        var page = pages.getIfPresent(key);
+        if (page != null && page.generation == generation && now.isBefore(page.validUntil)) {
+            return page.items;
+        }
+        var items = Collections.unmodifiableList(loader.get());
+        pages.put(key, new Page(items, validUntil(items, now), generation));
+        return items;
+    }
+
+    public void invalidate(long ownerId) {
+        generations.invalidate(ownerId);
+    }
+
+    public void invalidateAll() {
+        generations.invalidateAll();
+        pages.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOwnerItemsChanged(OwnerItemsChangedEvent event) {
+        if (event.getOwnerId() == null) {
+            invalidateAll();
+        } else {
+            invalidate(event.getOwnerId());
+        }
+    }
+
+    long pageCount() {
+        pages.cleanUp();
+        return pages.estimatedSize();
+    }
+
+    private LocalDateTime validUntil(List<ItemWithBookingsDto> items, LocalDateTime now) {
+        var latest = now.plus(properties.getExpireAfter());
+        return items.stream()
+                .map(ItemWithBookingsDto::getNextBooking)
+                .filter(Objects::nonNull)
+                .map(BookingShortDto::getStart)
+                .min(LocalDateTime::compareTo)
+                .filter(latest::isAfter)
+                .orElse(latest);
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Key {
+        private final long ownerId;
+        private final Pageable pageable;
+    }
+
+    @AllArgsConstructor
+    private static class Page {
+        private final List<ItemWithBookingsDto> items;
+        private final LocalDateTime validUntil;
+        private final Object generation;
+    }
+}
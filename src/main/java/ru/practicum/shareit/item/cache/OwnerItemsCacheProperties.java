@@ -0,0 +1,28 @@
+package ru.practicum.shareit.item.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.item.owner-cache")
+public class OwnerItemsCacheProperties {
+
+    /**
+     * Maximum number of owners whose item pages are kept.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Maximum number of pages kept over all owners.
+     */
+    private long maximumPages = 50_000;
+
+    /**
+     * Upper bound for how long a cached page is served, even if none of its bookings starts earlier.
+     */
+    private Duration expireAfter = Duration.ofMinutes(10);
+}
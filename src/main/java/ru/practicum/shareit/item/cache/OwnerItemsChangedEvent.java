@@ -0,0 +1,24 @@
+package ru.practicum.shareit.item.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when the owner's item list (items, approved bookings or comments) has changed.
+ * An event without an owner affects every owner.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OwnerItemsChangedEvent {
+
+    private final Long ownerId;
+
+    public static OwnerItemsChangedEvent forOwner(long ownerId) {
+        return new OwnerItemsChangedEvent(ownerId);
+    }
+
+    public static OwnerItemsChangedEvent forAll() {
+        return new OwnerItemsChangedEvent(null);
+    }
+}
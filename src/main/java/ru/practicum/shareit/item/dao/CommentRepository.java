@@ -1,23 +1,32 @@
 package ru.practicum.shareit.item.dao;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.CommentShort;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    /**
+     * Keyset page of the item's comments, newest first: comments with id below {@code beforeId}.
+     */
     @Query("select new ru.practicum.shareit.item.model.CommentShort(" +
             "c.id, c.item.id, c.author.name, c.text, c.created) " +
             "from Comment c " +
-            "where c.item.id in ?1")
-    List<CommentShort> findAllByItemIdIn(List<Long> items);
+            "where c.item.id = ?1 and c.id < ?2 " +
+            "order by c.id desc")
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    List<CommentShort> findPageByItemId(long itemId, long beforeId, Pageable pageable);
 
-    @Query("select new ru.practicum.shareit.item.model.CommentShort(" +
-            "c.id, c.item.id, c.author.name, c.text, c.created) " +
-            "from Comment c " +
-            "where c.item.id = ?1")
-    List<CommentShort> findAllByItemId(long itemId);
+    boolean existsByItemIdAndAuthorId(long itemId, long authorId);
+
+    @Modifying
+    @Query("delete from Comment c where c.author.id = ?1")
+    void deleteAllByAuthorId(long authorId);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.item.dao;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.item.model.ItemChange;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ItemChangeRepository extends JpaRepository<ItemChange, Long> {
+
+    @Query("select distinct c.itemId from ItemChange c where c.changedAt >= ?1")
+    List<Long> findItemIdsChangedSince(LocalDateTime since);
+
+    @Modifying
+    @Query("delete from ItemChange c where c.changedAt < ?1")
+    int deleteAllByChangedAtBefore(LocalDateTime before);
+}
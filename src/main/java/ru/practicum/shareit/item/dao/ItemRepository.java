@@ -3,10 +3,17 @@ package ru.practicum.shareit.item.dao;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.datasource.ReadOnlyQuery;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemIndexEntry;
 
+import javax.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
@@ -16,11 +23,70 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
             " or lower(it.description) like lower(concat('%', ?1,'%')))")
     List<Item> search(String text, Pageable pageable);
 
+    @ReadOnlyQuery
     List<Item> findAllByOwnerId(Long userId, Pageable pageable);
 
     @EntityGraph("item-graph")
     List<Item> findAllByRequestId(long requestId);
 
+    @ReadOnlyQuery
     @EntityGraph("item-graph")
     List<Item> findAllByRequestIdIn(List<Long> requests);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select it from Item it where it.id = ?1")
+    Optional<Item> findByIdForUpdate(long id);
+
+    /**
+     * Recounts comment statistics of the items the author has commented, as if the author's comments were removed.
+     */
+    @Modifying
+    @Query("update Item it set " +
+            "it.commentCount = (select count(c) from Comment c where c.item = it and c.author.id <> ?1), " +
+            "it.reviewerCount = (select count(distinct c.author.id) from Comment c " +
+            "where c.item = it and c.author.id <> ?1), " +
+            "it.lastCommentAt = (select max(c.created) from Comment c where c.item = it and c.author.id <> ?1) " +
+            "where it.id in (select c.item.id from Comment c where c.author.id = ?1)")
+    void updateCommentStatsWithoutAuthor(long authorId);
+
+    /**
+     * Locks items with ids in the given range, so comments to them wait until their statistics are recounted.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select it from Item it where it.id between ?1 and ?2 order by it.id")
+    List<Item> findAllByIdBetweenForUpdate(long fromId, long toId);
+
+    /**
+     * Recounts comment statistics of items with ids in the given range from the {@code comments} table.
+     */
+    @Modifying
+    @Query("update Item it set " +
+            "it.commentCount = (select count(c) from Comment c where c.item = it), " +
+            "it.reviewerCount = (select count(distinct c.author.id) from Comment c where c.item = it), " +
+            "it.lastCommentAt = (select max(c.created) from Comment c where c.item = it) " +
+            "where it.id between ?1 and ?2")
+    int rebuildCommentStats(long fromId, long toId);
+
+    @Query("select new ru.practicum.shareit.item.model.ItemIndexEntry(" +
+            "it.id, it.name, it.description, it.owner.id, r.id, it.created, it.latitude, it.longitude) " +
+            "from Item it left join it.request r " +
+            "where it.available = true and it.id > ?1 " +
+            "order by it.id")
+    List<ItemIndexEntry> findIndexEntriesByAvailableTrueAndIdGreaterThan(long afterId, Pageable pageable);
+
+    @Query("select new ru.practicum.shareit.item.model.ItemIndexEntry(" +
+            "it.id, it.name, it.description, it.owner.id, r.id, it.created, it.latitude, it.longitude) " +
+            "from Item it left join it.request r " +
+            "where it.available = true and it.id in ?1")
+    List<ItemIndexEntry> findIndexEntriesByAvailableTrueAndIdIn(Collection<Long> ids);
+
+    @Query("select it.id from Item it where it.owner.id = ?1")
+    List<Long> findIdsByOwnerId(long ownerId);
+
+    @Query("select coalesce(max(it.id), 0) from Item it")
+    long findMaxId();
+
+    @Modifying
+    @Query("delete from Item it where it.owner.id = ?1")
+    void deleteAllByOwnerId(long ownerId);
 }
\ No newline at end of file
@@ -4,9 +4,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import ru.practicum.shareit.constraint.Update;
 
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.groups.Default;
+import java.time.LocalDateTime;
 
 @Data
 @Builder
@@ -21,4 +26,13 @@ public class ItemDto {
     @NotNull
     private Boolean available;
     private Long requestId;
+    @DecimalMin(value = "-90", groups = {Default.class, Update.class})
+    @DecimalMax(value = "90", groups = {Default.class, Update.class})
+    private Double latitude;
+    @DecimalMin(value = "-180", groups = {Default.class, Update.class})
+    @DecimalMax(value = "180", groups = {Default.class, Update.class})
+    private Double longitude;
+    private Long commentCount;
+    private Long reviewerCount;
+    private LocalDateTime lastCommentAt;
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Counts of found items per facet value. Owners and requests are limited to the most frequent values,
+ * in descending order of count.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemFacetsDto {
+    private long withRequest;
+    private long withoutRequest;
+    private Map<Long, Long> owners;
+    private Map<Long, Long> requests;
+}
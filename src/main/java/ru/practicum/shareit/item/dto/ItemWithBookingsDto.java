@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
@@ -19,5 +20,11 @@ public class ItemWithBookingsDto {
     private Boolean available;
     private BookingShortDto lastBooking;
     private BookingShortDto nextBooking;
+    private Long commentCount;
+    private Long reviewerCount;
+    private LocalDateTime lastCommentAt;
+    /**
+     * First page of comments, newest first; not filled in list views.
+     */
     private List<CommentDto> comments;
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.item.enums;
+
+import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.exception.BadRequestException;
+import ru.practicum.shareit.exception.ErrorMessages;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Orderings of {@code /items/search} results by review aggregates.
+ */
+public enum ItemSort {
+    NONE(Sort.unsorted()),
+    REVIEWERS(Sort.by(Sort.Order.desc("reviewerCount"), Sort.Order.asc("id"))),
+    COMMENTS(Sort.by(Sort.Order.desc("commentCount"), Sort.Order.asc("id"))),
+    RECENT(Sort.by(Sort.Order.desc("lastCommentAt").nullsLast(), Sort.Order.asc("id")));
+
+    private final Sort sort;
+
+    ItemSort(Sort sort) {
+        this.sort = sort;
+    }
+
+    public Sort getSort() {
+        return sort;
+    }
+
+    public static ItemSort parse(String name) {
+        var isCorrect = Arrays.stream(values())
+                .map(ItemSort::name)
+                .collect(Collectors.toSet())
+                .contains(name);
+        if (isCorrect) {
+            return ItemSort.valueOf(name);
+        }
+        throw new BadRequestException(ErrorMessages.UNKNOWN_SORT.getFormatMessage(name));
+    }
+}
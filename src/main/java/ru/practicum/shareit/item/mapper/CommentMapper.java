@@ -15,6 +15,8 @@ import java.time.LocalDateTime;
 public interface CommentMapper {
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "item", source = "item")
+    @Mapping(target = "created", source = "created")
     Comment toModel(CommentCreateDto commentDto, User author, Item item, LocalDateTime created);
 
     @Mapping(target = "authorName", source = "comment.author.name")
@@ -8,19 +8,31 @@ import ru.practicum.shareit.item.dto.ItemWithBookingsDto;
 import ru.practicum.shareit.item.dto.ItemWithRequestDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.Request;
+import ru.practicum.shareit.request.RequestFeedRow;
 import ru.practicum.shareit.user.model.User;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper(componentModel = "spring")
 public interface ItemMapper {
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
+    @Mapping(target = "reviewerCount", ignore = true)
+    @Mapping(target = "lastCommentAt", ignore = true)
     @Mapping(target = "name", source = "itemDto.name")
     @Mapping(target = "description", source = "itemDto.description")
-    Item toModel(ItemDto itemDto, User owner, Request request);
+    @Mapping(target = "created", source = "created")
+    @Mapping(target = "latitude", source = "itemDto.latitude")
+    @Mapping(target = "longitude", source = "itemDto.longitude")
+    Item toModel(ItemDto itemDto, User owner, Request request, LocalDateTime created);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "commentCount", ignore = true)
+    @Mapping(target = "reviewerCount", ignore = true)
+    @Mapping(target = "lastCommentAt", ignore = true)
+    @Mapping(target = "created", ignore = true)
     void toModel(@MappingTarget final Item item, ItemDto itemDto);
 
     @Mapping(target = "requestId", source = "item.request.id")
@@ -37,4 +49,10 @@ public interface ItemMapper {
 
     @Mapping(target = "requestId", source = "item.request.id")
     ItemWithRequestDto toItemWithRequestDto(Item item);
+
+    @Mapping(target = "id", source = "itemId")
+    @Mapping(target = "name", source = "itemName")
+    @Mapping(target = "description", source = "itemDescription")
+    @Mapping(target = "available", source = "itemAvailable")
+    ItemWithRequestDto toItemWithRequestDto(RequestFeedRow row);
 }
\ No newline at end of file
@@ -2,12 +2,23 @@ package ru.practicum.shareit.item.model;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import ru.practicum.shareit.request.Request;
 import ru.practicum.shareit.user.model.User;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 
+/**
+ * Comment statistics are changed by comments only; with {@link DynamicUpdate} an item update writes
+ * just the columns it changed, so it never overwrites counters with values read before a comment.
+ */
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "items")
 @Getter
 @Setter
 @Table(name = "items")
@@ -30,4 +41,14 @@ public class Item {
     private String description;
     @Column(nullable = false)
     private Boolean available;
+    @Column(nullable = false)
+    private LocalDateTime created;
+    private Double latitude;
+    private Double longitude;
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+    @Column(name = "reviewer_count", nullable = false)
+    private long reviewerCount;
+    @Column(name = "last_comment_at")
+    private LocalDateTime lastCommentAt;
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A row of the item change log: the item was created, updated or deleted at the given time.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "item_change_log")
+public class ItemChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public ItemChange(long itemId, LocalDateTime changedAt) {
+        this.itemId = itemId;
+        this.changedAt = changedAt;
+    }
+}
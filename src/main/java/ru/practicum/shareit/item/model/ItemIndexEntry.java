@@ -0,0 +1,22 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fields of an available item kept by the in-memory search indexes.
+ */
+@Data
+@AllArgsConstructor
+public class ItemIndexEntry {
+    private Long id;
+    private String name;
+    private String description;
+    private Long ownerId;
+    private Long requestId;
+    private LocalDateTime created;
+    private Double latitude;
+    private Double longitude;
+}
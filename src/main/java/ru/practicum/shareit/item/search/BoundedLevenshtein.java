@@ -0,0 +1,51 @@
+package ru.practicum.shareit.item.search;
+
+/**
+ * Levenshtein distance limited to a maximum: only the diagonal band of width {@code 2 * max + 1} is computed
+ * and the computation stops as soon as every cell of a row exceeds the maximum.
+ */
+final class BoundedLevenshtein {
+
+    private BoundedLevenshtein() {
+    }
+
+    /**
+     * Returns the edit distance between the strings, or {@code max + 1} if it is greater than {@code max}.
+     */
+    static int distance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        var over = max + 1;
+        var previous = new int[b.length() + 1];
+        var current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j <= max ? j : over;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            var from = Math.max(1, i - max);
+            var to = Math.min(b.length(), i + max);
+            current[0] = i <= max ? i : over;
+            if (from > 1) {
+                current[from - 1] = over;
+            }
+            var rowMin = current[0];
+            for (int j = from; j <= to; j++) {
+                var cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                var value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                current[j] = Math.min(value, over);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < b.length()) {
+                current[to + 1] = over;
+            }
+            if (rowMin > max) {
+                return over;
+            }
+            var swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], over);
+    }
+}
@@ -0,0 +1,46 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemIndexEntry;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when an item is saved or deleted, to keep in-memory item indexes up to date.
+ * A deleted item has no name.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ItemChangedEvent {
+
+    private final long itemId;
+    private final String name;
+    private final String description;
+    private final boolean available;
+    private final Long ownerId;
+    private final Long requestId;
+    private final LocalDateTime created;
+    private final Double latitude;
+    private final Double longitude;
+
+    public static ItemChangedEvent saved(Item item) {
+        return new ItemChangedEvent(item.getId(), item.getName(), item.getDescription(), item.getAvailable(),
+                item.getOwner().getId(), item.getRequest() == null ? null : item.getRequest().getId(),
+                item.getCreated(), item.getLatitude(), item.getLongitude());
+    }
+
+    public static ItemChangedEvent deleted(long itemId) {
+        return new ItemChangedEvent(itemId, null, null, false, null, null, null, null, null);
+    }
+
+    public ItemIndexEntry toEntry() {
+        return new ItemIndexEntry(itemId, name, description, ownerId, requestId, created, latitude, longitude);
+    }
+
+    public boolean isDeleted() {
+        return name == null;
+    }
+}
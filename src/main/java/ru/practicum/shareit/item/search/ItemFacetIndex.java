@@ -0,0 +1,282 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.dto.ItemFacetsDto;
+import ru.practicum.shareit.item.dto.ItemSearchFilter;
+import ru.practicum.shareit.item.model.ItemIndexEntry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Filters and facet counts of the faceted item search over available items, kept in memory.
+ * <p>
+ * Item sets are bitmaps indexed by dense ordinals handed out to items as they are indexed (and reused once
+ * an item leaves the index), so bigint item ids never become bit positions: the set of indexed items and the set
+ * of items made for a request are kept as bitmaps, filters are applied as bitmap operations on the text match set.
+ * Owners and requests have too many values for a bitmap each, so they are kept as per-value ordinal sets
+ * (turned into a small bitmap when filtering) and as per-item values scanned when counting.
+ */
+@Slf4j
+@Component
+public class ItemFacetIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final BitSet indexed = new BitSet();
+    private final BitSet withRequest = new BitSet();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final List<Doc> docs = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final Map<Long, Set<Integer>> byOwner = new HashMap<>();
+    private final Map<Long, Set<Integer>> byRequest = new HashMap<>();
+
+    /**
+     * Replaces the whole index content; called by {@link ItemSearchIndexLoader} on startup.
+     */
+    public void load(Collection<ItemIndexEntry> items) {
+        lock.writeLock().lock();
+        try {
+            indexed.clear();
+            withRequest.clear();
+            ordinals.clear();
+            docs.clear();
+            freeOrdinals.clear();
+            byOwner.clear();
+            byRequest.clear();
+            items.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed facets of {} available items", items.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.isDeleted() || !event.isAvailable()) {
+            remove(event.getItemId());
+        } else {
+            put(event.toEntry());
+        }
+    }
+
+    public void put(ItemIndexEntry item) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(item.getId());
+            add(item);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long itemId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Narrows the matched items to indexed items passing the owner, request and creation filters and not excluded,
+     * and cuts a page of them. Ordinals are only meaningful under the lock, so the whole search runs under it.
+     *
+     * @param matches  ids of items matching the text, or {@code null} for all indexed items
+     * @param excluded ids of items to leave out, e.g. the ones not free in the requested period
+     */
+    public Found search(Collection<Long> matches, ItemSearchFilter filter, Collection<Long> excluded,
+                        long offset, int size, int facetSize) {
+        lock.readLock().lock();
+        try {
+            var found = matches == null ? (BitSet) indexed.clone() : toBitSet(matches);
+            filter(found, filter);
+            excluded.forEach(id -> {
+                var ordinal = ordinals.get(id);
+                if (ordinal != null) {
+                    found.clear(ordinal);
+                }
+            });
+            return new Found(page(found, offset, size), found.cardinality(), facets(found, facetSize));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void filter(BitSet matches, ItemSearchFilter filter) {
+        matches.and(indexed);
+        if (filter.getHasRequest() != null) {
+            if (filter.getHasRequest()) {
+                matches.and(withRequest);
+            } else {
+                matches.andNot(withRequest);
+            }
+        }
+        if (filter.getOwnerId() != null) {
+            matches.and(ordinalBitSet(byOwner.getOrDefault(filter.getOwnerId(), Set.of())));
+        }
+        if (filter.getRequestId() != null) {
+            matches.and(ordinalBitSet(byRequest.getOrDefault(filter.getRequestId(), Set.of())));
+        }
+        if (filter.getCreatedFrom() != null || filter.getCreatedTo() != null) {
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                if (!isCreatedIn(docs.get(ordinal).created, filter.getCreatedFrom(), filter.getCreatedTo())) {
+                    matches.clear(ordinal);
+                }
+            }
+        }
+    }
+
+    /**
+     * Facet counts of the found items; at most {@code size} owners and requests are returned.
+     */
+    private ItemFacetsDto facets(BitSet found, int size) {
+        var requested = (BitSet) found.clone();
+        requested.and(withRequest);
+        var withRequestCount = requested.cardinality();
+        return ItemFacetsDto.builder()
+                .withRequest(withRequestCount)
+                .withoutRequest(found.cardinality() - withRequestCount)
+                .owners(top(found, doc -> doc.ownerId, size))
+                .requests(top(requested, doc -> doc.requestId, size))
+                .build();
+    }
+
+    /**
+     * Ids of the page of found items in ascending id order. Ordinals do not follow ids, so the smallest
+     * {@code offset + size} ids are kept in a bounded heap.
+     */
+    private List<Long> page(BitSet found, long offset, int size) {
+        if (size <= 0 || found.isEmpty()) {
+            return List.of();
+        }
+        var limit = (int) Math.min(offset + size, Integer.MAX_VALUE);
+        var smallest = new PriorityQueue<Long>(Comparator.reverseOrder());
+        for (int ordinal = found.nextSetBit(0); ordinal >= 0; ordinal = found.nextSetBit(ordinal + 1)) {
+            var id = docs.get(ordinal).itemId;
+            if (smallest.size() < limit) {
+                smallest.add(id);
+            } else if (id < smallest.peek()) {
+                smallest.poll();
+                smallest.add(id);
+            }
+        }
+        return smallest.stream()
+                .sorted()
+                .skip(offset)
+                .collect(Collectors.toList());
+    }
+
+    private BitSet toBitSet(Collection<Long> ids) {
+        var bits = new BitSet();
+        ids.forEach(id -> {
+            var ordinal = ordinals.get(id);
+            if (ordinal != null) {
+                bits.set(ordinal);
+            }
+        });
+        return bits;
+    }
+
+    private static BitSet ordinalBitSet(Collection<Integer> ordinals) {
+        var bits = new BitSet();
+        ordinals.forEach(bits::set);
+        return bits;
+    }
+
+    private Map<Long, Long> top(BitSet items, Function<Doc, Long> value, int size) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (int ordinal = items.nextSetBit(0); ordinal >= 0; ordinal = items.nextSetBit(ordinal + 1)) {
+            counts.merge(value.apply(docs.get(ordinal)), 1L, Long::sum);
+        }
+        var result = new LinkedHashMap<Long, Long>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(size)
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    private static boolean isCreatedIn(LocalDateTime created, LocalDateTime from, LocalDateTime to) {
+        return (from == null || !created.isBefore(from)) && (to == null || created.isBefore(to));
+    }
+
+    private void add(ItemIndexEntry item) {
+        var ordinal = freeOrdinals.isEmpty() ? docs.size() : freeOrdinals.pop();
+        var doc = new Doc(item.getId(), item.getOwnerId(), item.getRequestId(), item.getCreated());
+        if (ordinal == docs.size()) {
+            docs.add(doc);
+        } else {
+            docs.set(ordinal, doc);
+        }
+        ordinals.put(item.getId(), ordinal);
+        indexed.set(ordinal);
+        byOwner.computeIfAbsent(item.getOwnerId(), key -> new HashSet<>()).add(ordinal);
+        if (item.getRequestId() != null) {
+            withRequest.set(ordinal);
+            byRequest.computeIfAbsent(item.getRequestId(), key -> new HashSet<>()).add(ordinal);
+        }
+    }
+
+    private void removeLocked(long itemId) {
+        var ordinal = ordinals.remove(itemId);
+        if (ordinal == null) {
+            return;
+        }
+        var doc = docs.set(ordinal, null);
+        indexed.clear(ordinal);
+        withRequest.clear(ordinal);
+        freeOrdinals.push(ordinal);
+        removePosting(byOwner, doc.ownerId, ordinal);
+        if (doc.requestId != null) {
+            removePosting(byRequest, doc.requestId, ordinal);
+        }
+    }
+
+    private static void removePosting(Map<Long, Set<Integer>> postings, long value, int ordinal) {
+        var ordinals = postings.get(value);
+        ordinals.remove(ordinal);
+        if (ordinals.isEmpty()) {
+            postings.remove(value);
+        }
+    }
+
+    /**
+     * A page of found item ids with the total number of found items and their facet counts.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Found {
+        private final List<Long> ids;
+        private final int total;
+        private final ItemFacetsDto facets;
+    }
+
+    @AllArgsConstructor
+    private static final class Doc {
+        private final long itemId;
+        private final Long ownerId;
+        private final Long requestId;
+        private final LocalDateTime created;
+    }
+}
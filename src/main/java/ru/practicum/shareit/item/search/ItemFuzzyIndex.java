@@ -0,0 +1,356 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.cache.ItemSearchCache;
+import ru.practicum.shareit.item.model.ItemIndexEntry;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Typo-tolerant search over words of names and descriptions of available items.
+ * Candidate words are those sharing enough trigrams with a query word (each edit destroys at most three
+ * trigrams), then verified with a bounded Levenshtein distance. Only the vocabulary is scanned, not the items,
+ * so the query cost depends on the number of distinct words rather than on the number of items.
+ * <p>
+ * Items are partitioned by id into shards searched in parallel; each shard returns its best
+ * {@code offset + size} matches and the requested page is cut from their merge.
+ * <p>
+ * The same vocabulary answers plain substring queries: a word containing a query word shares every trigram of it,
+ * so candidates come from the trigram postings and only their texts are compared with the query.
+ */
+@Slf4j
+@Component
+public class ItemFuzzyIndex {
+
+    private static final Comparator<Match> BEST_FIRST = Comparator.comparingInt(Match::getScore)
+            .thenComparingLong(Match::getItemId);
+
+    private final Shard[] shards;
+    private final ForkJoinPool pool;
+
+    public ItemFuzzyIndex(ItemSearchIndexProperties properties) {
+        var count = Math.max(1, properties.getShards());
+        this.shards = IntStream.range(0, count)
+                .mapToObj(i -> new Shard())
+                .toArray(Shard[]::new);
+        this.pool = count > 1 ? new ForkJoinPool(count) : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Replaces the whole index content; called by {@link ItemSearchIndexLoader} on startup.
+     */
+    public void load(Collection<ItemIndexEntry> items) {
+        synchronized (this) {
+            Arrays.stream(shards).forEach(Shard::clear);
+            items.forEach(item -> shard(item.getId()).add(item.getId(), item.getName(), item.getDescription()));
+        }
+        log.info("Indexed words of {} available items in {} shards", items.size(), shards.length);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.isDeleted() || !event.isAvailable()) {
+            remove(event.getItemId());
+        } else {
+            put(event.getItemId(), event.getName(), event.getDescription());
+        }
+    }
+
+    public void put(long itemId, String name, String description) {
+        shard(itemId).put(itemId, name, description);
+    }
+
+    public void remove(long itemId) {
+        shard(itemId).remove(itemId);
+    }
+
+    /**
+     * Ids of items containing every query word within the allowed edit distance, closest matches first.
+     */
+    public List<Long> search(String text, long offset, int size) {
+        var queryWords = words(text);
+        if (queryWords.isEmpty() || size <= 0) {
+            return List.of();
+        }
+        var limit = (int) Math.min(offset + size, Integer.MAX_VALUE);
+        List<Match> matches;
+        if (pool == null) {
+            matches = shards[0].search(queryWords, limit);
+        } else {
+            var futures = Arrays.stream(shards)
+                    .map(shard -> CompletableFuture.supplyAsync(() -> shard.search(queryWords, limit), pool))
+                    .collect(Collectors.toList());
+            matches = futures.stream()
+                    .flatMap(future -> future.join().stream())
+                    .collect(Collectors.toList());
+        }
+        return matches.stream()
+                .sorted(BEST_FIRST)
+                .skip(offset)
+                .limit(size)
+                .map(Match::getItemId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Ids of items whose name or description contains the text, ignoring case; the in-memory counterpart of
+     * {@code ItemRepository.search} without paging.
+     */
+    public Set<Long> containing(String text) {
+        var normalized = ItemSearchCache.normalize(text);
+        var queryWords = words(normalized);
+        if (pool == null) {
+            return shards[0].containing(normalized, queryWords);
+        }
+        var futures = Arrays.stream(shards)
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.containing(normalized, queryWords), pool))
+                .collect(Collectors.toList());
+        return futures.stream()
+                .flatMap(future -> future.join().stream())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Allowed edit distance: none for short words, where a typo turns the word into another one.
+     */
+    static int maxDistance(String word) {
+        if (word.length() <= 3) {
+            return 0;
+        }
+        return word.length() <= 7 ? 1 : 2;
+    }
+
+    private Shard shard(long itemId) {
+        return shards[(int) Math.floorMod(itemId, (long) shards.length)];
+    }
+
+    private static Set<String> words(String text) {
+        return Arrays.stream(ItemSearchCache.normalize(text).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Distinct trigrams inside the word, without the markers: each of them is a trigram of any word containing it.
+     */
+    private static List<String> innerTrigrams(String word) {
+        return IntStream.rangeClosed(0, word.length() - 3)
+                .mapToObj(i -> word.substring(i, i + 3))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Distinct trigrams of the word padded with a start and an end marker, so a word of n characters has
+     * at most n trigrams.
+     */
+    private static Set<String> trigrams(String word) {
+        var padded = "^" + word + "$";
+        return IntStream.rangeClosed(0, padded.length() - 3)
+                .mapToObj(i -> padded.substring(i, i + 3))
+                .collect(Collectors.toSet());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class Match {
+        private final long itemId;
+        private final int score;
+    }
+
+    @AllArgsConstructor
+    private static final class Text {
+        private final String name;
+        private final String description;
+
+        boolean contains(String text) {
+            return name.contains(text) || description.contains(text);
+        }
+    }
+
+    private static final class Shard {
+
+        private final Map<Long, Text> itemTexts = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> wordItems = new ConcurrentHashMap<>();
+        private final Map<String, Set<String>> trigramWords = new ConcurrentHashMap<>();
+
+        synchronized void clear() {
+            itemTexts.clear();
+            wordItems.clear();
+            trigramWords.clear();
+        }
+
+        synchronized void put(long itemId, String name, String description) {
+            remove(itemId);
+            add(itemId, name, description);
+        }
+
+        synchronized void add(long itemId, String name, String description) {
+            var text = new Text(ItemSearchCache.normalize(name), ItemSearchCache.normalize(description));
+            itemTexts.put(itemId, text);
+            for (var word : words(text.name + " " + text.description)) {
+                wordItems.computeIfAbsent(word, key -> {
+                    trigrams(key).forEach(trigram ->
+                            trigramWords.computeIfAbsent(trigram, t -> ConcurrentHashMap.newKeySet()).add(key));
+                    return ConcurrentHashMap.newKeySet();
+                }).add(itemId);
+            }
+        }
+
+        synchronized void remove(long itemId) {
+            var text = itemTexts.remove(itemId);
+            if (text == null) {
+                return;
+            }
+            for (var word : words(text.name + " " + text.description)) {
+                var items = wordItems.get(word);
+                items.remove(itemId);
+                if (items.isEmpty()) {
+                    wordItems.remove(word);
+                    trigrams(word).forEach(trigram -> {
+                        var trigramSet = trigramWords.get(trigram);
+                        trigramSet.remove(word);
+                        if (trigramSet.isEmpty()) {
+                            trigramWords.remove(trigram);
+                        }
+                    });
+                }
+            }
+        }
+
+        /**
+         * The shard's best {@code limit} items matching every query word, in no particular order.
+         */
+        List<Match> search(Set<String> queryWords, int limit) {
+            Map<Long, Integer> scores = null;
+            for (var queryWord : queryWords) {
+                var matches = match(queryWord);
+                if (scores == null) {
+                    scores = matches;
+                } else {
+                    var previous = scores;
+                    scores = matches.entrySet().stream()
+                            .filter(entry -> previous.containsKey(entry.getKey()))
+                            .collect(Collectors.toMap(Map.Entry::getKey,
+                                    entry -> entry.getValue() + previous.get(entry.getKey())));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            var top = new PriorityQueue<>(BEST_FIRST.reversed());
+            for (var entry : scores.entrySet()) {
+                top.add(new Match(entry.getKey(), entry.getValue()));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            return new ArrayList<>(top);
+        }
+
+        /**
+         * Items of the shard whose text contains the normalized query text.
+         */
+        Set<Long> containing(String text, Set<String> queryWords) {
+            Set<Long> candidates = null;
+            for (var queryWord : queryWords) {
+                var items = new HashSet<Long>();
+                wordsContaining(queryWord).forEach(word -> items.addAll(wordItems.getOrDefault(word, Set.of())));
+                if (candidates != null) {
+                    items.retainAll(candidates);
+                }
+                candidates = items;
+                if (candidates.isEmpty()) {
+                    return Set.of();
+                }
+            }
+            var result = new HashSet<Long>();
+            if (candidates == null) {
+                itemTexts.forEach((id, itemText) -> {
+                    if (itemText.contains(text)) {
+                        result.add(id);
+                    }
+                });
+                return result;
+            }
+            for (var id : candidates) {
+                var itemText = itemTexts.get(id);
+                if (itemText != null && itemText.contains(text)) {
+                    result.add(id);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Vocabulary words containing the query word: those found under every trigram of it, or, for a word too
+         * short to have one, the whole vocabulary.
+         */
+        private Collection<String> wordsContaining(String queryWord) {
+            var trigrams = innerTrigrams(queryWord);
+            Collection<String> candidates = wordItems.keySet();
+            for (var trigram : trigrams) {
+                var words = trigramWords.getOrDefault(trigram, Set.of());
+                if (words.size() < candidates.size()) {
+                    candidates = words;
+                }
+            }
+            return candidates.stream()
+                    .filter(word -> word.contains(queryWord))
+                    .collect(Collectors.toList());
+        }
+
+        private Map<Long, Integer> match(String queryWord) {
+            var max = maxDistance(queryWord);
+            Map<Long, Integer> result = new HashMap<>();
+            if (max == 0) {
+                wordItems.getOrDefault(queryWord, Set.of()).forEach(id -> result.put(id, 0));
+                return result;
+            }
+            var queryTrigrams = trigrams(queryWord);
+            var threshold = queryTrigrams.size() - 3 * max;
+            Map<String, Integer> shared = new HashMap<>();
+            for (var trigram : queryTrigrams) {
+                trigramWords.getOrDefault(trigram, Set.of()).forEach(word -> shared.merge(word, 1, Integer::sum));
+            }
+            shared.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .map(Map.Entry::getKey)
+                    .forEach(word -> {
+                        var distance = BoundedLevenshtein.distance(queryWord, word, max);
+                        if (distance <= max) {
+                            wordItems.getOrDefault(word, Set.of())
+                                    .forEach(id -> result.merge(id, distance, Math::min));
+                        }
+                    });
+            return result;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.model.ItemIndexEntry;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Locations of available items in a grid of equal-angle cells, for radius and nearest-N searches.
+ * <p>
+ * A search walks square rings of cells around the query point and stops once no unvisited cell can hold a closer
+ * item than the ones found (or one within the radius). When there are only a few candidates, all their distances
+ * are computed directly instead.
+ */
+@Slf4j
+@Component
+public class ItemGeoIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final Comparator<Hit> FARTHEST_FIRST = Comparator.comparingDouble((Hit hit) -> hit.distance)
+            .thenComparingLong(hit -> hit.itemId)
+            .reversed();
+
+    private final double cellDegrees;
+    private final int scanLimit;
+    private final int latitudeCells;
+    private final int longitudeCells;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Point> points = new HashMap<>();
+    private final Map<Long, Set<Long>> cells = new HashMap<>();
+
+    public ItemGeoIndex(ItemSearchIndexProperties properties) {
+        this.cellDegrees = properties.getGeoCellDegrees();
+        this.scanLimit = properties.getGeoScanLimit();
+        this.latitudeCells = (int) Math.ceil(180 / cellDegrees);
+        this.longitudeCells = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    /**
+     * Replaces the whole index content; called by {@link ItemSearchIndexLoader} on startup.
+     */
+    public void load(Collection<ItemIndexEntry> items) {
+        lock.writeLock().lock();
+        try {
+            points.clear();
+            cells.clear();
+            items.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed locations of {} available items", points.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.isDeleted() || !event.isAvailable()) {
+            remove(event.getItemId());
+        } else {
+            put(event.toEntry());
+        }
+    }
+
+    public void put(ItemIndexEntry item) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(item.getId());
+            add(item);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long itemId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of up to {@code limit} items closest to the point, nearest first.
+     *
+     * @param radiusKm maximum distance, or {@code null} for any distance
+     * @param matches  candidate item ids, or {@code null} for all items with a location
+     */
+    public List<Long> nearest(double latitude, double longitude, Double radiusKm, Set<Long> matches, int limit) {
+        var maxDistance = radiusKm == null ? Double.MAX_VALUE : radiusKm;
+        var hits = new PriorityQueue<>(FARTHEST_FIRST);
+        lock.readLock().lock();
+        try {
+            if (points.size() <= scanLimit || matches != null && matches.size() <= scanLimit) {
+                scan(latitude, longitude, maxDistance, matches, limit, hits);
+            } else {
+                walkRings(latitude, longitude, maxDistance, matches, limit, hits);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return hits.stream()
+                .sorted(FARTHEST_FIRST.reversed())
+                .map(hit -> hit.itemId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Great-circle distance in kilometres.
+     */
+    static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        var deltaLatitude = Math.toRadians(latitude2 - latitude1);
+        var deltaLongitude = Math.toRadians(longitude2 - longitude1);
+        var a = Math.pow(Math.sin(deltaLatitude / 2), 2) + Math.cos(Math.toRadians(latitude1))
+                * Math.cos(Math.toRadians(latitude2)) * Math.pow(Math.sin(deltaLongitude / 2), 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private void scan(double latitude, double longitude, double maxDistance, Set<Long> matches, int limit,
+                      PriorityQueue<Hit> hits) {
+        if (matches == null) {
+            points.forEach((id, point) -> offer(id, point, latitude, longitude, maxDistance, limit, hits));
+            return;
+        }
+        for (var id : matches) {
+            var point = points.get(id);
+            if (point != null) {
+                offer(id, point, latitude, longitude, maxDistance, limit, hits);
+            }
+        }
+    }
+
+    private void walkRings(double latitude, double longitude, double maxDistance, Set<Long> matches, int limit,
+                           PriorityQueue<Hit> hits) {
+        var centerRow = row(latitude);
+        var centerColumn = column(longitude);
+        var visitedPoints = 0;
+        Set<Long> visitedCells = new HashSet<>();
+        for (int ring = 0; ring <= Math.max(latitudeCells, longitudeCells / 2); ring++) {
+            var bound = ringDistanceBound(latitude, ring);
+            if (bound > maxDistance || hits.size() == limit && bound > hits.peek().distance
+                    || visitedPoints == points.size()) {
+                return;
+            }
+            for (int dy = -ring; dy <= ring; dy++) {
+                var row = centerRow + dy;
+                if (row < 0 || row >= latitudeCells) {
+                    continue;
+                }
+                var step = Math.abs(dy) == ring ? 1 : 2 * ring;
+                for (int dx = -ring; dx <= ring; dx += Math.max(step, 1)) {
+                    var key = (long) row * longitudeCells + Math.floorMod(centerColumn + dx, longitudeCells);
+                    var cell = cells.get(key);
+                    if (cell == null || !visitedCells.add(key)) {
+                        continue;
+                    }
+                    visitedPoints += cell.size();
+                    for (var id : cell) {
+                        if (matches == null || matches.contains(id)) {
+                            offer(id, points.get(id), latitude, longitude, maxDistance, limit, hits);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Lower bound of the distance from the point to any location in a cell of the given ring: such a location is
+     * at least {@code ring - 1} whole cells away along a meridian or along a parallel. Parallels shorten toward the
+     * poles, so the bound uses the highest latitude the ring reaches.
+     */
+    private double ringDistanceBound(double latitude, int ring) {
+        if (ring <= 1) {
+            return 0;
+        }
+        var degrees = (ring - 1) * cellDegrees;
+        var meridian = Math.toRadians(Math.min(degrees, 180)) * EARTH_RADIUS_KM;
+        var highestLatitude = Math.min(90, Math.abs(latitude) + (ring + 1) * cellDegrees);
+        var parallel = 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1,
+                Math.cos(Math.toRadians(highestLatitude)) * Math.sin(Math.toRadians(Math.min(degrees, 180)) / 2)));
+        return Math.min(meridian, parallel);
+    }
+
+    private static void offer(long id, Point point, double latitude, double longitude, double maxDistance,
+                              int limit, PriorityQueue<Hit> hits) {
+        var distance = distanceKm(latitude, longitude, point.latitude, point.longitude);
+        if (distance > maxDistance) {
+            return;
+        }
+        hits.add(new Hit(id, distance));
+        if (hits.size() > limit) {
+            hits.poll();
+        }
+    }
+
+    private void add(ItemIndexEntry item) {
+        if (item.getLatitude() == null || item.getLongitude() == null) {
+            return;
+        }
+        var point = new Point(item.getLatitude(), item.getLongitude());
+        points.put(item.getId(), point);
+        cells.computeIfAbsent(cell(point), key -> new HashSet<>()).add(item.getId());
+    }
+
+    private void removeLocked(long itemId) {
+        var point = points.remove(itemId);
+        if (point == null) {
+            return;
+        }
+        var key = cell(point);
+        var cell = cells.get(key);
+        cell.remove(itemId);
+        if (cell.isEmpty()) {
+            cells.remove(key);
+        }
+    }
+
+    private long cell(Point point) {
+        return (long) row(point.latitude) * longitudeCells + column(point.longitude);
+    }
+
+    private int row(double latitude) {
+        return Math.min(latitudeCells - 1, (int) Math.floor((latitude + 90) / cellDegrees));
+    }
+
+    private int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), longitudeCells);
+    }
+
+    @AllArgsConstructor
+    private static final class Point {
+        private final double latitude;
+        private final double longitude;
+    }
+
+    @AllArgsConstructor
+    private static final class Hit {
+        private final long itemId;
+        private final double distance;
+    }
+}
@@ -0,0 +1,139 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.item.model.ItemIndexEntry;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * On-disk copy of the texts of available items, the input of the in-memory search indexes.
+ * <p>
+ * Layout: magic, version, creation time in epoch milliseconds, then for every item its id, the UTF-8 name and
+ * description, each prefixed with its length, the owner id, the request id (zero when none), the creation time
+ * in UTC epoch milliseconds, the latitude and the longitude (NaN when none), then a zero id, the item count
+ * and a CRC32 of everything before it.
+ * The file is written to a temporary file and atomically moved into place, and read through a memory mapping.
+ */
+final class ItemIndexSnapshot {
+
+    private static final int MAGIC = 0x53484958;
+    private static final int VERSION = 3;
+    private static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    private ItemIndexSnapshot() {
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Content {
+        /**
+         * Moment before the first item was read: changes made since then may be missing in the snapshot.
+         */
+        private final Instant createdAt;
+        private final List<ItemIndexEntry> items;
+    }
+
+    static void write(Path path, Instant createdAt, Iterator<ItemIndexEntry> items) throws IOException {
+        var parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        var temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            var checksum = new CRC32();
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                var checked = new DataOutputStream(new CheckedOutputStream(out, checksum));
+                checked.writeInt(MAGIC);
+                checked.writeInt(VERSION);
+                checked.writeLong(createdAt.toEpochMilli());
+                var count = 0;
+                while (items.hasNext()) {
+                    var item = items.next();
+                    checked.writeLong(item.getId());
+                    writeString(checked, item.getName());
+                    writeString(checked, item.getDescription());
+                    checked.writeLong(item.getOwnerId());
+                    checked.writeLong(item.getRequestId() == null ? 0 : item.getRequestId());
+                    checked.writeLong(item.getCreated().toInstant(ZoneOffset.UTC).toEpochMilli());
+                    checked.writeDouble(item.getLatitude() == null ? Double.NaN : item.getLatitude());
+                    checked.writeDouble(item.getLongitude() == null ? Double.NaN : item.getLongitude());
+                    count++;
+                }
+                checked.writeLong(0);
+                checked.writeInt(count);
+                checked.flush();
+                out.writeLong(checksum.getValue());
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads the snapshot, failing with {@link IOException} if the file is truncated, corrupted
+     * or of another format version.
+     */
+    static Content read(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var size = channel.size();
+            if (size < Integer.BYTES * 2 + Long.BYTES + TRAILER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Unexpected snapshot size " + size);
+            }
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            var checksum = new CRC32();
+            checksum.update(buffer.duplicate().limit((int) size - Long.BYTES));
+            if (checksum.getValue() != buffer.getLong((int) size - Long.BYTES)) {
+                throw new IOException("Snapshot checksum mismatch");
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Unknown snapshot format");
+            }
+            var createdAt = Instant.ofEpochMilli(buffer.getLong());
+            var items = new ArrayList<ItemIndexEntry>();
+            for (long id = buffer.getLong(); id != 0; id = buffer.getLong()) {
+                var name = readString(buffer);
+                var description = readString(buffer);
+                var ownerId = buffer.getLong();
+                var requestId = buffer.getLong();
+                var created = LocalDateTime.ofInstant(Instant.ofEpochMilli(buffer.getLong()), ZoneOffset.UTC);
+                var latitude = buffer.getDouble();
+                var longitude = buffer.getDouble();
+                items.add(new ItemIndexEntry(id, name, description, ownerId, requestId == 0 ? null : requestId,
+                        created, Double.isNaN(latitude) ? null : latitude, Double.isNaN(longitude) ? null : longitude));
+            }
+            if (buffer.getInt() != items.size()) {
+                throw new IOException("Snapshot item count mismatch");
+            }
+            return new Content(createdAt, items);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        var bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,100 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.cache.ItemSearchCache;
+import ru.practicum.shareit.item.model.ItemIndexEntry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index over names of available items, used for autocompletion. Every word of a name is
+ * indexed, so "dri" completes "Power drill". Keys are the normalized name tail plus the item id, which keeps
+ * equal names of different items apart; a prefix lookup is a range scan over the sorted map.
+ */
+@Slf4j
+@Component
+public class ItemNameIndex {
+
+    private static final char ID_SEPARATOR = '\u0000';
+    private static final char MAX_CHAR = Character.MAX_VALUE;
+
+    private final ConcurrentNavigableMap<String, String> entries = new ConcurrentSkipListMap<>();
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+
+    /**
+     * Replaces the whole index content; called by {@link ItemSearchIndexLoader} on startup.
+     */
+    public void load(Collection<ItemIndexEntry> items) {
+        synchronized (this) {
+            entries.clear();
+            names.clear();
+            items.forEach(item -> add(item.getId(), item.getName()));
+        }
+        log.info("Indexed names of {} available items", items.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.isDeleted() || !event.isAvailable()) {
+            remove(event.getItemId());
+        } else {
+            put(event.getItemId(), event.getName());
+        }
+    }
+
+    public synchronized void put(long itemId, String name) {
+        remove(itemId);
+        add(itemId, name);
+    }
+
+    public synchronized void remove(long itemId) {
+        var name = names.remove(itemId);
+        if (name != null) {
+            keys(itemId, name).forEach(entries::remove);
+        }
+    }
+
+    /**
+     * Distinct names having a word that starts with the prefix, in alphabetical order of the matched tail.
+     */
+    public List<String> suggest(String prefix, int size) {
+        var normalized = ItemSearchCache.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        var result = new LinkedHashSet<String>();
+        for (var name : entries.subMap(normalized, normalized + MAX_CHAR).values()) {
+            result.add(name);
+            if (result.size() == size) {
+                break;
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    private void add(long itemId, String name) {
+        names.put(itemId, name);
+        keys(itemId, name).forEach(key -> entries.put(key, name));
+    }
+
+    private List<String> keys(long itemId, String name) {
+        var normalized = ItemSearchCache.normalize(name);
+        var keys = new ArrayList<String>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (!Character.isWhitespace(normalized.charAt(i))
+                    && (i == 0 || Character.isWhitespace(normalized.charAt(i - 1)))) {
+                keys.add(normalized.substring(i) + ID_SEPARATOR + itemId);
+            }
+        }
+        return keys;
+    }
+}
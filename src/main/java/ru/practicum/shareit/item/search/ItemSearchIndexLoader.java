@@ -0,0 +1,185 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.dao.ItemChangeRepository;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.ItemChange;
+import ru.practicum.shareit.item.model.ItemIndexEntry;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fills {@link ItemNameIndex}, {@link ItemFuzzyIndex}, {@link ItemFacetIndex} and {@link ItemGeoIndex} on startup
+ * and keeps {@code item_change_log}.
+ * <p>
+ * When a snapshot file is configured, startup reads it instead of scanning all items and then replays the items
+ * logged as changed since the snapshot was taken. The snapshot is rewritten periodically from the database.
+ * Every saved or deleted item is logged in the transaction that changed it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSearchIndexLoader {
+
+    private final ItemRepository itemRepository;
+    private final ItemChangeRepository itemChangeRepository;
+    private final ItemNameIndex itemNameIndex;
+    private final ItemFuzzyIndex itemFuzzyIndex;
+    private final ItemFacetIndex itemFacetIndex;
+    private final ItemGeoIndex itemGeoIndex;
+    private final ItemSearchIndexProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener
+    public void logChange(ItemChangedEvent event) {
+        itemChangeRepository.save(new ItemChange(event.getItemId(), LocalDateTime.now()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        var content = readSnapshot();
+        if (content == null) {
+            var createdAt = Instant.now();
+            content = new ItemIndexSnapshot.Content(createdAt, readAllItems());
+        }
+        itemNameIndex.load(content.getItems());
+        itemFuzzyIndex.load(content.getItems());
+        itemFacetIndex.load(content.getItems());
+        itemGeoIndex.load(content.getItems());
+        catchUp(content.getCreatedAt());
+    }
+
+    @Scheduled(initialDelayString = "${shareit.item.search-index.snapshot-interval:PT30M}",
+            fixedDelayString = "${shareit.item.search-index.snapshot-interval:PT30M}")
+    public void snapshot() {
+        var deleted = transactionTemplate.execute(status -> itemChangeRepository.deleteAllByChangedAtBefore(
+                LocalDateTime.now().minus(properties.getChangeLogRetention())));
+        log.info("Removed {} item change log rows", deleted);
+        var path = properties.getSnapshotPath();
+        if (path == null) {
+            return;
+        }
+        var createdAt = Instant.now();
+        try {
+            ItemIndexSnapshot.write(path, createdAt, new ItemTextIterator());
+            log.info("Saved search index snapshot to {}", path);
+        } catch (IOException e) {
+            log.warn("Could not save search index snapshot to {}", path, e);
+        }
+    }
+
+    private ItemIndexSnapshot.Content readSnapshot() {
+        var path = properties.getSnapshotPath();
+        if (path == null || !Files.exists(path)) {
+            return null;
+        }
+        try {
+            var content = ItemIndexSnapshot.read(path);
+            if (content.getCreatedAt().isBefore(Instant.now()
+                    .minus(properties.getChangeLogRetention())
+                    .plus(properties.getCatchUpOverlap()))) {
+                log.info("Search index snapshot {} of {} is older than the change log", path, content.getCreatedAt());
+                return null;
+            }
+            log.info("Read {} items from search index snapshot {} of {}",
+                    content.getItems().size(), path, content.getCreatedAt());
+            return content;
+        } catch (IOException | BufferUnderflowException e) {
+            log.warn("Could not read search index snapshot {}", path, e);
+            return null;
+        }
+    }
+
+    private List<ItemIndexEntry> readAllItems() {
+        var items = new ArrayList<ItemIndexEntry>();
+        new ItemTextIterator().forEachRemaining(items::add);
+        return items;
+    }
+
+    /**
+     * Re-reads items logged as changed since the given moment and puts them into the indexes,
+     * or removes them when they are deleted or not available anymore.
+     */
+    private void catchUp(Instant since) {
+        var changedSince = LocalDateTime.ofInstant(since.minus(properties.getCatchUpOverlap()), ZoneId.systemDefault());
+        var changedIds = itemChangeRepository.findItemIdsChangedSince(changedSince);
+        if (changedIds.isEmpty()) {
+            return;
+        }
+        for (int from = 0; from < changedIds.size(); from += properties.getBatchSize()) {
+            var ids = changedIds.subList(from, Math.min(from + properties.getBatchSize(), changedIds.size()));
+            var items = itemRepository.findIndexEntriesByAvailableTrueAndIdIn(ids).stream()
+                    .collect(Collectors.toMap(ItemIndexEntry::getId, Function.identity()));
+            for (var id : ids) {
+                var item = items.get(id);
+                if (item == null) {
+                    itemNameIndex.remove(id);
+                    itemFuzzyIndex.remove(id);
+                    itemFacetIndex.remove(id);
+                    itemGeoIndex.remove(id);
+                } else {
+                    itemNameIndex.put(id, item.getName());
+                    itemFuzzyIndex.put(id, item.getName(), item.getDescription());
+                    itemFacetIndex.put(item);
+                    itemGeoIndex.put(item);
+                }
+            }
+        }
+        log.info("Caught up {} items changed since {}", changedIds.size(), changedSince);
+    }
+
+    /**
+     * Reads available items in id order, one batch per query, so the whole table is never held in one result set.
+     */
+    private class ItemTextIterator implements Iterator<ItemIndexEntry> {
+
+        private List<ItemIndexEntry> batch = Collections.emptyList();
+        private int position;
+        private long lastId;
+        private boolean exhausted;
+
+        @Override
+        public boolean hasNext() {
+            if (position < batch.size()) {
+                return true;
+            }
+            if (exhausted) {
+                return false;
+            }
+            batch = itemRepository.findIndexEntriesByAvailableTrueAndIdGreaterThan(lastId,
+                    PageRequest.of(0, properties.getBatchSize()));
+            position = 0;
+            exhausted = batch.size() < properties.getBatchSize();
+            return !batch.isEmpty();
+        }
+
+        @Override
+        public ItemIndexEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var item = batch.get(position++);
+            lastId = item.getId();
+            return item;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.item.search-index")
+public class ItemSearchIndexProperties {
+
+    /**
+     * File the search index input is periodically saved to and loaded from on startup.
+     * Without it the indexes are always built from the database.
+     */
+    private Path snapshotPath;
+
+    /**
+     * Delay between the end of one snapshot and the start of the next.
+     */
+    private Duration snapshotInterval = Duration.ofMinutes(30);
+
+    /**
+     * Number of items read from the database in one query when a snapshot or the indexes are built.
+     */
+    private int batchSize = 5000;
+
+    /**
+     * How long rows of {@code item_change_log} are kept. An older snapshot cannot be caught up and is ignored.
+     */
+    private Duration changeLogRetention = Duration.ofDays(7);
+
+    /**
+     * Changes logged this long before the snapshot are replayed too, covering transactions that committed
+     * after the snapshot was read.
+     */
+    private Duration catchUpOverlap = Duration.ofMinutes(5);
+
+    /**
+     * Number of partitions of the fuzzy search index, searched in parallel.
+     */
+    private int shards = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Side of a cell of the geo grid in degrees; 0.05 is about 5.5 km along a meridian.
+     */
+    private double geoCellDegrees = 0.05;
+
+    /**
+     * Nearby searches over at most this many candidate items compute every distance instead of walking the grid.
+     */
+    private int geoScanLimit = 5000;
+}
@@ -0,0 +1,91 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.model.BookingShort;
+import ru.practicum.shareit.exception.ErrorMessages;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dao.CommentRepository;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemWithBookingsDto;
+import ru.practicum.shareit.item.mapper.CommentMapper;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.singleflight.SingleFlight;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Loads single items for {@link ItemServiceImpl}. A separate bean, so the calls go through the proxy and are
+ * coalesced by {@link SingleFlight} on the item id alone: every reader of an item shares one load, whoever
+ * asks. The owner's view with bookings is loaded and shared separately.
+ */
+@Component
+@RequiredArgsConstructor
+class ItemReader {
+
+    static final int COMMENTS_PAGE_SIZE = 10;
+
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final CommentRepository commentRepository;
+    private final ItemMapper itemMapper;
+    private final CommentMapper commentMapper;
+
+    /**
+     * The item with its first page of comments as any user other than its owner sees it.
+     */
+    @SingleFlight
+    @Transactional(readOnly = true)
+    public ItemCard findById(long id) {
+        var item = itemRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException(ErrorMessages.ITEM_NOT_FOUND.getFormatMessage(id)));
+        var comments = findComments(id, null, COMMENTS_PAGE_SIZE);
+        return new ItemCard(item.getOwner().getId(), itemMapper.toItemWithBookingsDto(item, comments));
+    }
+
+    /**
+     * The item as its owner sees it, with the last and the next booking.
+     */
+    @SingleFlight
+    @Transactional(readOnly = true)
+    public ItemWithBookingsDto findWithBookings(long id) {
+        var item = itemRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException(ErrorMessages.ITEM_NOT_FOUND.getFormatMessage(id)));
+        var comments = findComments(id, null, COMMENTS_PAGE_SIZE);
+        var bookings = bookingRepository.findBookingsShortByItem(item.getId());
+        var dateTime = LocalDateTime.now();
+        var last = bookings.stream()
+                .filter(b -> dateTime.isAfter(b.getStart()))
+                .max(Comparator.comparing(BookingShort::getStart))
+                .orElse(null);
+        var next = bookings.stream()
+                .filter(b -> dateTime.isBefore(b.getStart()))
+                .min(Comparator.comparing(BookingShort::getStart))
+                .orElse(null);
+        return itemMapper.toItemWithBookingsDto(item, last, next, comments);
+    }
+
+    public List<CommentDto> findComments(long itemId, Long beforeId, int size) {
+        return commentRepository.findPageByItemId(itemId, beforeId == null ? Long.MAX_VALUE : beforeId,
+                        PageRequest.of(0, size))
+                .stream()
+                .map(commentMapper::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static final class ItemCard {
+        private final long ownerId;
+        private final ItemWithBookingsDto item;
+    }
+}
@@ -4,7 +4,10 @@ import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.item.dto.CommentCreateDto;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemSearchFilter;
+import ru.practicum.shareit.item.dto.ItemSearchResultDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingsDto;
+import ru.practicum.shareit.request.dto.RequestMatchDto;
 
 import java.util.List;
 
@@ -22,5 +25,40 @@ public interface ItemService {
 
     List<ItemDto> search(String text, Pageable pageable);
 
+    /**
+     * Search with filters and facet counts of all found items; a blank text matches every available item.
+     * Found items are returned in id order.
+     */
+    ItemSearchResultDto facetedSearch(String text, ItemSearchFilter filter, Pageable pageable, int facetSize);
+
+    /**
+     * Available items matching the text (every item with a location when it is blank), nearest first.
+     * Without coordinates the location of the user is used.
+     */
+    List<ItemDto> nearbySearch(Long userId, String text, Double latitude, Double longitude, Double radiusKm,
+                               Pageable pageable);
+
+    /**
+     * Typo-tolerant search over words of names and descriptions, closest matches first.
+     */
+    List<ItemDto> fuzzySearch(String text, Pageable pageable);
+
+    /**
+     * Names of available items with a word starting with the prefix; served from memory.
+     */
+    List<String> suggest(String prefix, int size);
+
     CommentDto createComment(long userId, long itemId, CommentCreateDto commentCreateDto);
-}
\ No newline at end of file
+
+    /**
+     * At most {@code size} comments of the item, newest first, with id below {@code beforeId};
+     * the newest ones when it is null.
+     */
+    List<CommentDto> getComments(long itemId, Long beforeId, int size);
+
+    /**
+     * Open requests of other users the item could satisfy, best match first; only the owner can see them.
+     * They are found in the background after the item is saved, so a just saved item may have none yet.
+     */
+    List<RequestMatchDto> getRequestMatches(long userId, long itemId);
+}
@@ -1,32 +1,55 @@
 package ru.practicum.shareit.item.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dao.BookingHistoryRepository;
 import ru.practicum.shareit.booking.dao.BookingRepository;
 import ru.practicum.shareit.booking.enums.BookingStatus;
 import ru.practicum.shareit.booking.model.BookingShort;
 import ru.practicum.shareit.exception.AccessDeniedException;
+import ru.practicum.shareit.exception.BadRequestException;
 import ru.practicum.shareit.exception.ErrorMessages;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.cache.CompletedBookingCache;
+import ru.practicum.shareit.item.cache.ItemSearchCache;
+import ru.practicum.shareit.item.cache.ItemSearchChangedEvent;
+import ru.practicum.shareit.item.cache.OwnerItemsCache;
+import ru.practicum.shareit.item.cache.OwnerItemsChangedEvent;
 import ru.practicum.shareit.item.dao.CommentRepository;
 import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.dto.CommentCreateDto;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemSearchFilter;
+import ru.practicum.shareit.item.dto.ItemSearchResultDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingsDto;
 import ru.practicum.shareit.item.mapper.CommentMapper;
 import ru.practicum.shareit.item.mapper.ItemMapper;
-import ru.practicum.shareit.item.model.CommentShort;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemChangedEvent;
+import ru.practicum.shareit.item.search.ItemFacetIndex;
+import ru.practicum.shareit.item.search.ItemFuzzyIndex;
+import ru.practicum.shareit.item.search.ItemGeoIndex;
+import ru.practicum.shareit.item.search.ItemNameIndex;
 import ru.practicum.shareit.request.Request;
+import ru.practicum.shareit.request.dao.RequestMatchRepository;
 import ru.practicum.shareit.request.dao.RequestRepository;
+import ru.practicum.shareit.request.dto.RequestMatchDto;
+import ru.practicum.shareit.request.mapper.RequestMapper;
+import ru.practicum.shareit.singleflight.SingleFlight;
 import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.util.InLists;
+import ru.practicum.shareit.util.Locations;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,10 +59,23 @@ public class ItemServiceImpl implements ItemService {
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
     private final BookingRepository bookingRepository;
+    private final BookingHistoryRepository bookingHistoryRepository;
     private final CommentRepository commentRepository;
     private final RequestRepository requestRepository;
+    private final RequestMatchRepository requestMatchRepository;
+    private final ItemReader itemReader;
     private final ItemMapper itemMapper;
     private final CommentMapper commentMapper;
+    private final RequestMapper requestMapper;
+    private final OwnerItemsCache ownerItemsCache;
+    private final CompletedBookingCache completedBookingCache;
+    private final ItemSearchCache itemSearchCache;
+    private final ItemNameIndex itemNameIndex;
+    private final ItemFuzzyIndex itemFuzzyIndex;
+    private final ItemFacetIndex itemFacetIndex;
+    private final ItemGeoIndex itemGeoIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
 
     @Override
     @Transactional
@@ -52,44 +88,42 @@ public class ItemServiceImpl implements ItemService {
                     .orElseThrow(() -> new NotFoundException(ErrorMessages.REQUEST_NOT_FOUND.getFormatMessage(
                             itemDto.getRequestId())));
         }
-        var item = itemMapper.toModel(itemDto, owner, request);
-        return itemMapper.toDto(itemRepository.save(item));
+        Locations.check(itemDto.getLatitude(), itemDto.getLongitude());
+        var item = itemRepository.save(itemMapper.toModel(itemDto, owner, request, LocalDateTime.now()));
+        eventPublisher.publishEvent(OwnerItemsChangedEvent.forOwner(userId));
+        eventPublisher.publishEvent(ItemSearchChangedEvent.forTexts(item.getName(), item.getDescription()));
+        eventPublisher.publishEvent(ItemChangedEvent.saved(item));
+        return itemMapper.toDto(item);
     }
 
+    /**
+     * Not transactional itself: concurrent calls share the loads of {@link ItemReader}, which open their own
+     * transactions.
+     */
     @Override
-    @Transactional(readOnly = true)
     public ItemWithBookingsDto findById(long userId, long id) {
-        var item = itemRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException(ErrorMessages.ITEM_NOT_FOUND.getFormatMessage(
-                        id)));
-        var comments = commentRepository.findAllByItemId(id)
-                .stream()
-                .map(commentMapper::toDto)
-                .collect(Collectors.toList());
-        if (!item.getOwner().getId().equals(userId)) {
-            return itemMapper.toItemWithBookingsDto(item, comments);
+        var card = itemReader.findById(id);
+        if (card.getOwnerId() != userId) {
+            return card.getItem();
         }
-        var bookings = bookingRepository.findBookingsShortByItem(item.getId());
-        var dateTime = LocalDateTime.now();
-        var last = bookings.stream()
-                .filter(b -> dateTime.isAfter(b.getStart()))
-                .max(Comparator.comparing(BookingShort::getStart))
-                .orElse(null);
-        var next = bookings.stream()
-                .filter(b -> dateTime.isBefore(b.getStart()))
-                .min(Comparator.comparing(BookingShort::getStart))
-                .orElse(null);
-        return itemMapper.toItemWithBookingsDto(item, last, next, comments);
+        return itemReader.findWithBookings(id);
     }
 
+    /**
+     * Not transactional itself: a cached page is returned without opening a transaction.
+     */
     @Override
-    @Transactional(readOnly = true)
     public List<ItemWithBookingsDto> getAll(long userId, Pageable pageable) {
+        return ownerItemsCache.get(userId, pageable, () -> inReadOnlyTransaction(() -> loadAll(userId, pageable)));
+    }
+
+    private List<ItemWithBookingsDto> loadAll(long userId, Pageable pageable) {
         List<Item> items;
         items = itemRepository.findAllByOwnerId(userId, pageable);
         var dateTime = LocalDateTime.now();
         var itemsId = items.stream().map(Item::getId).collect(Collectors.toList());
-        var bookings = bookingRepository.findAllBookingsShortByItemIdIn(itemsId, Sort.by("start").descending());
+        var bookings = InLists.findAll(itemsId,
+                ids -> bookingRepository.findAllBookingsShortByItemIdIn(ids, Sort.by("start").descending()));
         Map<Long, BookingShort> lastBookings = new HashMap<>();
         Map<Long, BookingShort> nextBookings = new HashMap<>();
         for (var booking: bookings) {
@@ -100,14 +134,30 @@ public class ItemServiceImpl implements ItemService {
             }
         }
 
-        var comments = commentRepository.findAllByItemIdIn(itemsId)
-                .stream()
-                .collect(Collectors.groupingBy(CommentShort::getItemId,
-                        Collectors.mapping(commentMapper::toDto, Collectors.toList())));
-
         return items.stream()
                 .map(item -> itemMapper.toItemWithBookingsDto(item, lastBookings.get(item.getId()),
-                        nextBookings.get(item.getId()), comments.getOrDefault(item.getId(), Collections.emptyList())))
+                        nextBookings.get(item.getId()), null))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommentDto> getComments(long itemId, Long beforeId, int size) {
+        itemRepository.findById(itemId)
+                .orElseThrow(() -> new NotFoundException(ErrorMessages.ITEM_NOT_FOUND.getFormatMessage(itemId)));
+        return itemReader.findComments(itemId, beforeId, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RequestMatchDto> getRequestMatches(long userId, long itemId) {
+        var item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new NotFoundException(ErrorMessages.ITEM_NOT_FOUND.getFormatMessage(itemId)));
+        if (!item.getOwner().getId().equals(userId)) {
+            throw new AccessDeniedException(ErrorMessages.OWNER_REQUEST_MATCHES.getMessage());
+        }
+        return requestMatchRepository.findAllByItemId(itemId).stream()
+                .map(requestMapper::toMatchDto)
                 .collect(Collectors.toList());
     }
 
@@ -116,14 +166,22 @@ public class ItemServiceImpl implements ItemService {
     public ItemDto update(long userId, ItemDto itemDto) {
         var owner = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException(ErrorMessages.USER_NOT_FOUND.getFormatMessage(userId)));
-        var oldItem = itemRepository.findById(itemDto.getId())
+        // locked like in createComment: the item is read from the database, not from the second-level cache
+        var oldItem = itemRepository.findByIdForUpdate(itemDto.getId())
                 .orElseThrow(() -> new NotFoundException(ErrorMessages.ITEM_NOT_FOUND.getFormatMessage(
                         itemDto.getId())));
         if (!oldItem.getOwner().equals(owner)) {
             throw new AccessDeniedException(ErrorMessages.OWNER_UPDATE.getMessage());
         }
+        var oldName = oldItem.getName();
+        var oldDescription = oldItem.getDescription();
         itemMapper.toModel(oldItem, itemDto);
+        Locations.check(oldItem.getLatitude(), oldItem.getLongitude());
         var item = itemRepository.save(oldItem);
+        eventPublisher.publishEvent(OwnerItemsChangedEvent.forOwner(userId));
+        eventPublisher.publishEvent(ItemSearchChangedEvent.forTexts(oldName, oldDescription,
+                item.getName(), item.getDescription()));
+        eventPublisher.publishEvent(ItemChangedEvent.saved(item));
         return itemMapper.toDto(item);
     }
 
@@ -139,13 +197,85 @@ public class ItemServiceImpl implements ItemService {
             throw new AccessDeniedException(ErrorMessages.OWNER_DELETE.getMessage());
         }
         itemRepository.deleteById(id);
+        eventPublisher.publishEvent(OwnerItemsChangedEvent.forOwner(userId));
+        eventPublisher.publishEvent(ItemSearchChangedEvent.forTexts(item.getName(), item.getDescription()));
+        eventPublisher.publishEvent(ItemChangedEvent.deleted(id));
     }
 
+    /**
+     * Not transactional itself: a cached page is returned without opening a transaction.
+     */
     @Override
-    @Transactional(readOnly = true)
+    @SingleFlight
     public List<ItemDto> search(String text, Pageable pageable) {
         if (text.isBlank()) return List.of();
-        return itemMapper.toDto(itemRepository.search(text, pageable));
+        var normalized = ItemSearchCache.normalize(text);
+        return itemSearchCache.get(normalized, pageable,
+                () -> inReadOnlyTransaction(() -> itemMapper.toDto(itemRepository.search(normalized, pageable))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ItemSearchResultDto facetedSearch(String text, ItemSearchFilter filter, Pageable pageable, int facetSize) {
+        if ((filter.getFreeFrom() == null) != (filter.getFreeTo() == null)
+                || filter.getFreeFrom() != null && !filter.getFreeFrom().isBefore(filter.getFreeTo())) {
+            throw new BadRequestException(ErrorMessages.INVALID_FREE_RANGE.getMessage());
+        }
+        var matches = text.isBlank() ? null : itemFuzzyIndex.containing(text);
+        var booked = filter.getFreeFrom() == null
+                ? List.<Long>of()
+                : bookingHistoryRepository.findItemIdsBookedBetween(filter.getFreeFrom(), filter.getFreeTo());
+        var found = itemFacetIndex.search(matches, filter, booked, pageable.getOffset(), pageable.getPageSize(),
+                facetSize);
+        var ids = found.getIds();
+        var items = ids.isEmpty() ? List.<Item>of() : itemRepository.findAllById(ids);
+        return ItemSearchResultDto.builder()
+                .items(items.stream()
+                        .sorted(Comparator.comparing(Item::getId))
+                        .map(itemMapper::toDto)
+                        .collect(Collectors.toList()))
+                .total(found.getTotal())
+                .facets(found.getFacets())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemDto> nearbySearch(Long userId, String text, Double latitude, Double longitude, Double radiusKm,
+                                      Pageable pageable) {
+        Locations.check(latitude, longitude);
+        var centerLatitude = latitude;
+        var centerLongitude = longitude;
+        if (centerLatitude == null) {
+            if (userId == null) {
+                throw new BadRequestException(ErrorMessages.LOCATION_REQUIRED.getMessage());
+            }
+            var user = userRepository.findById(userId)
+                    .orElseThrow(() -> new NotFoundException(ErrorMessages.USER_NOT_FOUND.getFormatMessage(userId)));
+            if (user.getLatitude() == null) {
+                throw new BadRequestException(ErrorMessages.LOCATION_REQUIRED.getMessage());
+            }
+            centerLatitude = user.getLatitude();
+            centerLongitude = user.getLongitude();
+        }
+        var matches = text.isBlank() ? null : itemFuzzyIndex.containing(text);
+        var limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+        var ids = itemGeoIndex.nearest(centerLatitude, centerLongitude, radiusKm, matches, limit).stream()
+                .skip(pageable.getOffset())
+                .collect(Collectors.toList());
+        return findAllInOrder(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemDto> fuzzySearch(String text, Pageable pageable) {
+        var ids = itemFuzzyIndex.search(text, pageable.getOffset(), pageable.getPageSize());
+        return findAllInOrder(ids);
+    }
+
+    @Override
+    public List<String> suggest(String prefix, int size) {
+        return itemNameIndex.suggest(prefix, size);
     }
 
     @Override
@@ -153,17 +283,49 @@ public class ItemServiceImpl implements ItemService {
     public CommentDto createComment(long userId, long itemId, CommentCreateDto commentCreateDto) {
         var author = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException(ErrorMessages.USER_NOT_FOUND.getFormatMessage(userId)));
-        var item = itemRepository.findById(itemId)
+        // locked, so concurrent comments do not lose counter updates
+        var item = itemRepository.findByIdForUpdate(itemId)
                 .orElseThrow(() -> new NotFoundException(ErrorMessages.ITEM_NOT_FOUND.getFormatMessage(itemId)));
         var dateTime = LocalDateTime.now();
-        if (bookingRepository.findByItemIdAndBookerIdAndStatusAndEndBefore(itemId, userId,
-                BookingStatus.APPROVED, dateTime).isEmpty()) {
-            throw new AccessDeniedException(ErrorMessages.REVIEW_WITHOUT_BOOKING.getMessage());
+        if (!completedBookingCache.isCompleted(itemId, userId)) {
+            if (!bookingHistoryRepository.existsByItemIdAndBookerIdAndStatusAndEndBefore(itemId, userId,
+                    BookingStatus.APPROVED, dateTime)) {
+                throw new AccessDeniedException(ErrorMessages.REVIEW_WITHOUT_BOOKING.getMessage());
+            }
+            completedBookingCache.markCompleted(itemId, userId);
+        }
+        if (!commentRepository.existsByItemIdAndAuthorId(itemId, userId)) {
+            item.setReviewerCount(item.getReviewerCount() + 1);
         }
         var comment = commentRepository.save(commentMapper.toModel(commentCreateDto, author, item, dateTime));
+        item.setCommentCount(item.getCommentCount() + 1);
+        item.setLastCommentAt(dateTime);
+        eventPublisher.publishEvent(OwnerItemsChangedEvent.forOwner(item.getOwner().getId()));
+        eventPublisher.publishEvent(ItemSearchChangedEvent.forTexts(item.getName(), item.getDescription()));
         return commentMapper.toDto(comment);
     }
 
+    /**
+     * Items with the given ids in the order of the ids; ids of items deleted meanwhile are skipped.
+     */
+    private List<ItemDto> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        var items = itemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Item::getId, item -> item));
+        return ids.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .map(itemMapper::toDto)
+                .collect(Collectors.toList());
+    }
+
+
+    private <T> T inReadOnlyTransaction(Supplier<T> action) {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> action.get());
+    }
+
     private BookingShort getNextBooking(BookingShort next, BookingShort current) {
         if (next == null) return current;
         if (current == null) return next;
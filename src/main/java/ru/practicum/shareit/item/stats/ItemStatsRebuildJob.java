@@ -0,0 +1,60 @@
+package ru.practicum.shareit.item.stats;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.dao.ItemRepository;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+/**
+ * Backfills comment count, reviewer count and last comment time of every item from the {@code comments} table.
+ * Items are split into id ranges, each recounted in its own transaction on a small worker pool.
+ * The rows of a range are locked before recounting, like a comment locks its item, so comments
+ * made while the application already serves requests are not lost.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "shareit.item.stats-rebuild", name = "enabled", havingValue = "true")
+public class ItemStatsRebuildJob {
+
+    private final ItemRepository itemRepository;
+    private final ItemStatsRebuildProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        var maxId = itemRepository.findMaxId();
+        var chunkSize = properties.getChunkSize();
+        var executor = Executors.newFixedThreadPool(properties.getParallelism());
+        try {
+            var chunks = new ArrayList<CompletableFuture<Integer>>();
+            for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+                var from = fromId;
+                var to = Math.min(fromId + chunkSize - 1, maxId);
+                chunks.add(CompletableFuture.supplyAsync(() -> rebuildChunk(from, to), executor));
+            }
+            var total = chunks.stream()
+                    .mapToInt(CompletableFuture::join)
+                    .sum();
+            log.info("Rebuilt comment statistics of {} items in {} chunks", total, chunks.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int rebuildChunk(long fromId, long toId) {
+        Integer updated = transactionTemplate.execute(status -> {
+            itemRepository.findAllByIdBetweenForUpdate(fromId, toId);
+            return itemRepository.rebuildCommentStats(fromId, toId);
+        });
+        return updated == null ? 0 : updated;
+    }
+}
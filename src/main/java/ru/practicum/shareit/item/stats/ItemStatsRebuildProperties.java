@@ -0,0 +1,26 @@
+package ru.practicum.shareit.item.stats;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.item.stats-rebuild")
+public class ItemStatsRebuildProperties {
+
+    /**
+     * Whether item comment statistics are recounted from the {@code comments} table on startup.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of consecutive item ids recounted in one transaction.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Number of chunks processed concurrently.
+     */
+    private int parallelism = 4;
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.loadshedding;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit adjusted from request latencies by their gradient: the ratio of the long-term average
+ * latency to the latest one. While requests are as fast as usual the limit grows by its square root,
+ * leaving room for a small queue; once they get {@code tolerance} times slower it shrinks by up to half,
+ * so it settles near the concurrency the database serves without queueing. Latencies measured while less
+ * than half of the limit is used are not taken into account, as they say nothing about the limit.
+ */
+class AdaptiveConcurrencyLimit {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int rttWindow;
+    private volatile double limit;
+    /**
+     * Long-term average latency in nanoseconds, guarded by {@code this}.
+     */
+    private double longRtt;
+
+    AdaptiveConcurrencyLimit(LoadSheddingProperties properties) {
+        this.minLimit = Math.max(1, properties.getMinLimit());
+        this.maxLimit = Math.max(minLimit, properties.getMaxLimit());
+        this.tolerance = properties.getTolerance();
+        this.smoothing = properties.getSmoothing();
+        this.rttWindow = Math.max(1, properties.getRttWindow());
+        this.limit = Math.min(maxLimit, Math.max(minLimit, properties.getInitialLimit()));
+    }
+
+    /**
+     * Admits a request of the group if requests in flight are below its share of the limit;
+     * an admitted request must be {@link #release released}.
+     */
+    boolean tryAcquire(EndpointGroup group) {
+        var allowed = Math.max(1, (int) (limit * group.getShare()));
+        while (true) {
+            var current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release(long rtt) {
+        var used = inFlight.getAndDecrement();
+        onSample(Math.max(1, rtt), used);
+    }
+
+    synchronized void onSample(long rtt, int used) {
+        longRtt = longRtt == 0 ? rtt : longRtt + (rtt - longRtt) / rttWindow;
+        if (longRtt > 2 * rtt) {
+            // latency is recovering, do not keep comparing with the slow past
+            longRtt = (longRtt + rtt) / 2;
+        }
+        var current = limit;
+        if (used * 2 < current) {
+            return;
+        }
+        var gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / rtt));
+        var estimate = current * gradient + Math.sqrt(current);
+        limit = Math.min(maxLimit, Math.max(minLimit, current * (1 - smoothing) + estimate * smoothing));
+    }
+
+    int getLimit() {
+        return (int) limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+}
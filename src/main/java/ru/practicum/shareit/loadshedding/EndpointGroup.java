@@ -0,0 +1,37 @@
+package ru.practicum.shareit.loadshedding;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Requests sharing the concurrency limit; a group is served while requests in flight stay below its share
+ * of the limit, so groups with a lower share are shed first.
+ */
+@Getter
+@AllArgsConstructor
+public enum EndpointGroup {
+
+    BOOKING_WRITES(1.0),
+    DEFAULT(0.9),
+    ITEM_READS(0.8),
+    SEARCH(0.5);
+
+    private final double share;
+
+    public static EndpointGroup of(String method, String path) {
+        if (isUnder(path, "/bookings")) {
+            return "POST".equals(method) || "PATCH".equals(method) ? BOOKING_WRITES : DEFAULT;
+        }
+        if (isUnder(path, "/items/search") || isUnder(path, "/items/suggest")) {
+            return SEARCH;
+        }
+        if (isUnder(path, "/items") && "GET".equals(method)) {
+            return ITEM_READS;
+        }
+        return DEFAULT;
+    }
+
+    private static boolean isUnder(String path, String prefix) {
+        return path.startsWith(prefix) && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/');
+    }
+}
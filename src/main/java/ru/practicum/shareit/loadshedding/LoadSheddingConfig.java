@@ -0,0 +1,27 @@
+package ru.practicum.shareit.loadshedding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers {@link LoadSheddingFilter} after the rate limit, so requests of a limited user do not take
+ * a place in the concurrency limit; disabled with {@code shareit.load-shedding.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "shareit.load-shedding", name = "enabled", matchIfMissing = true)
+public class LoadSheddingConfig {
+
+    @Bean
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(LoadSheddingProperties properties,
+                                                                         MeterRegistry registry,
+                                                                         ObjectMapper objectMapper) {
+        var registration = new FilterRegistrationBean<>(new LoadSheddingFilter(properties, registry, objectMapper));
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,80 @@
+package ru.practicum.shareit.loadshedding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.practicum.shareit.exception.ErrorDto;
+import ru.practicum.shareit.exception.ErrorMessages;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Sheds requests over the {@link AdaptiveConcurrencyLimit} with 503 before they reach a controller, so they do not
+ * queue for a database connection. Counts shed requests per {@link EndpointGroup} in
+ * {@code shareit.load.shedding.rejections} and reports the limit and requests in flight as gauges.
+ */
+@Slf4j
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final Map<EndpointGroup, Counter> rejections = new EnumMap<>(EndpointGroup.class);
+    private final ObjectMapper objectMapper;
+
+    public LoadSheddingFilter(LoadSheddingProperties properties, MeterRegistry registry, ObjectMapper objectMapper) {
+        this(new AdaptiveConcurrencyLimit(properties), registry, objectMapper);
+    }
+
+    LoadSheddingFilter(AdaptiveConcurrencyLimit limit, MeterRegistry registry, ObjectMapper objectMapper) {
+        this.limit = limit;
+        this.objectMapper = objectMapper;
+        Arrays.stream(EndpointGroup.values()).forEach(group -> rejections.put(group,
+                Counter.builder("shareit.load.shedding.rejections")
+                        .tag("group", group.name().toLowerCase())
+                        .register(registry)));
+        Gauge.builder("shareit.load.shedding.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .register(registry);
+        Gauge.builder("shareit.load.shedding.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var group = EndpointGroup.of(request.getMethod(),
+                request.getRequestURI().substring(request.getContextPath().length()));
+        if (!limit.tryAcquire(group)) {
+            rejections.get(group).increment();
+            log.debug("Shed {} {}, limit {}", request.getMethod(), request.getRequestURI(), limit.getLimit());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                    new ErrorDto(ErrorMessages.SERVICE_OVERLOADED.getMessage()));
+            return;
+        }
+        var start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limit.release(System.nanoTime() - start);
+        }
+    }
+}
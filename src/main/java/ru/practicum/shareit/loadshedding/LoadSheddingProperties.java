@@ -0,0 +1,37 @@
+package ru.practicum.shareit.loadshedding;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.load-shedding")
+public class LoadSheddingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Requests served at once before any latency is measured.
+     */
+    private int initialLimit = 20;
+
+    private int minLimit = 4;
+
+    private int maxLimit = 200;
+
+    /**
+     * How many times slower than the long-term average a request can get before the limit shrinks.
+     */
+    private double tolerance = 2;
+
+    /**
+     * Weight of a new estimate in the limit, between 0 and 1; higher values react faster to latency changes.
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * Number of requests the long-term average latency is taken over.
+     */
+    private int rttWindow = 600;
+}
@@ -16,6 +16,9 @@ public class LoggingAspect {
 
     @Before("@annotation(Logging)")
     public void logBefore(JoinPoint joinPoint) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
         Object[] args = joinPoint.getArgs();
         String methodName = joinPoint.getSignature().toShortString();
         log.info(">> {}, args: {}", methodName, Arrays.toString(args));
@@ -23,6 +26,9 @@ public class LoggingAspect {
 
     @AfterReturning(value = "@annotation(Logging)", returning = "result")
     public void logAfterReturning(JoinPoint joinPoint, Object result) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
         String methodName = joinPoint.getSignature().toShortString();
         log.info("<< {}, result: {}", methodName, result);
     }
@@ -0,0 +1,28 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers {@link RateLimitFilter} for {@code shareit.rate-limit.paths} only; disabled with
+ * {@code shareit.rate-limit.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "shareit.rate-limit", name = "enabled", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties properties,
+                                                                   MeterRegistry registry,
+                                                                   ObjectMapper objectMapper) {
+        var registration = new FilterRegistrationBean<>(new RateLimitFilter(properties, registry, objectMapper));
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        properties.getPaths().forEach(path -> registration.addUrlPatterns(path, path + "/*"));
+        return registration;
+    }
+}
@@ -0,0 +1,126 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.practicum.shareit.exception.ErrorDto;
+import ru.practicum.shareit.exception.ErrorMessages;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Limits requests per {@code X-Sharer-User-Id} and endpoint with a {@link TokenBucket} each; requests without
+ * a valid user id share a bucket per remote address. A rejected request gets 429 with {@code Retry-After}
+ * in seconds and is counted in {@code shareit.rate.limit.rejections} per endpoint.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String HEADER_USER_ID = "X-Sharer-User-Id";
+
+    private final Cache<Key, TokenBucket> buckets;
+    private final List<String> paths;
+    private final Map<String, Counter> rejections;
+    private final int capacity;
+    private final long interval;
+    private final ObjectMapper objectMapper;
+    private final LongSupplier clock;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry registry, ObjectMapper objectMapper) {
+        this(properties, registry, objectMapper, System::nanoTime);
+    }
+
+    RateLimitFilter(RateLimitProperties properties, MeterRegistry registry, ObjectMapper objectMapper,
+                    LongSupplier clock) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .build();
+        // longest first, so a nested path wins over its parent
+        this.paths = properties.getPaths().stream()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .collect(Collectors.toList());
+        this.rejections = paths.stream()
+                .collect(Collectors.toMap(Function.identity(), path -> Counter.builder("shareit.rate.limit.rejections")
+                        .tag("endpoint", path)
+                        .register(registry)));
+        this.capacity = Math.max(1, properties.getCapacity());
+        this.interval = (long) (TimeUnit.SECONDS.toNanos(1) / properties.getRefillPerSecond());
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var endpoint = endpoint(request.getRequestURI().substring(request.getContextPath().length()));
+        if (endpoint == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        var now = clock.getAsLong();
+        var key = new Key(client(request), endpoint);
+        var wait = buckets.get(key, k -> new TokenBucket(capacity, interval, now)).tryTake(now);
+        if (wait == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+        rejections.get(endpoint).increment();
+        log.debug("Rate limit of {} on {} exceeded", key.client, endpoint);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(
+                Math.max(1, (wait + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorDto(ErrorMessages.TOO_MANY_REQUESTS.getMessage()));
+    }
+
+    private String endpoint(String path) {
+        for (var endpoint : paths) {
+            if (path.startsWith(endpoint)
+                    && (path.length() == endpoint.length() || path.charAt(endpoint.length()) == '/')) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    private static String client(HttpServletRequest request) {
+        var header = request.getHeader(HEADER_USER_ID);
+        if (header != null) {
+            try {
+                return String.valueOf(Long.parseLong(header.trim()));
+            } catch (NumberFormatException e) {
+                // limited by address below
+            }
+        }
+        return "address:" + request.getRemoteAddr();
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Key {
+        private final String client;
+        private final String endpoint;
+    }
+}
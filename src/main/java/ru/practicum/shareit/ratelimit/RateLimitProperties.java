@@ -0,0 +1,41 @@
+package ru.practicum.shareit.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Limited endpoints; a path covers its subpaths, each endpoint has its own bucket per user.
+     */
+    private List<String> paths = List.of("/items/search", "/bookings");
+
+    /**
+     * Requests a user can send to an endpoint at once after being idle.
+     */
+    private int capacity = 50;
+
+    /**
+     * Requests per second a user can keep sending to an endpoint.
+     */
+    private double refillPerSecond = 10;
+
+    /**
+     * Maximum number of user/endpoint buckets kept; the least recently used ones are dropped first.
+     */
+    private long maximumSize = 100_000;
+
+    /**
+     * Buckets idle for longer are dropped; should exceed the time to refill a whole bucket.
+     */
+    private Duration expireAfterAccess = Duration.ofMinutes(10);
+}
@@ -0,0 +1,42 @@
+package ru.practicum.shareit.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept as a single timestamp (the generic cell rate algorithm): the time at which the bucket
+ * would be full again. Taking a token moves it one refill interval forward, which is a compare-and-set
+ * of one long, so concurrent requests of a user never block each other.
+ */
+final class TokenBucket {
+
+    private final long interval;
+    private final long tolerance;
+    private final AtomicLong fullAt;
+
+    /**
+     * @param capacity tokens in a full bucket
+     * @param interval nanoseconds to refill one token
+     * @param now      current {@link System#nanoTime()}; the bucket starts full
+     */
+    TokenBucket(int capacity, long interval, long now) {
+        this.interval = interval;
+        this.tolerance = (capacity - 1) * interval;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Takes a token; returns 0 if there was one, otherwise nanoseconds until the next token is available.
+     */
+    long tryTake(long now) {
+        while (true) {
+            var current = fullAt.get();
+            var wait = current - tolerance - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, Math.max(current, now) + interval)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -3,9 +3,13 @@ package ru.practicum.shareit.request;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.bulkhead.Bulkhead;
+import ru.practicum.shareit.exception.BadRequestException;
+import ru.practicum.shareit.exception.ErrorMessages;
 import ru.practicum.shareit.logging.Logging;
 import ru.practicum.shareit.request.dto.RequestCreateDto;
 import ru.practicum.shareit.request.dto.RequestDto;
@@ -14,18 +18,21 @@ import ru.practicum.shareit.request.service.RequestService;
 import ru.practicum.shareit.util.PageRequestWithOffset;
 
 import javax.validation.constraints.Min;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Validated
 @RestController
 @RequestMapping(path = "/requests")
 @RequiredArgsConstructor
+@Bulkhead(Bulkhead.LISTINGS)
 public class RequestController {
 
     private final RequestService requestService;
     private static final String HEADER_USER_ID = "X-Sharer-User-Id";
 
     @Logging
+    @Bulkhead(Bulkhead.WRITES)
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public RequestDto create(@RequestHeader(HEADER_USER_ID) long userId,
@@ -36,6 +43,7 @@ public class RequestController {
     }
 
     @Logging
+    @Bulkhead(Bulkhead.READS)
     @GetMapping("/{requestId}")
     public RequestWithItemsDto get(@RequestHeader(HEADER_USER_ID) long userId,
                                    @PathVariable long requestId) {
@@ -52,8 +60,18 @@ public class RequestController {
     @GetMapping("/all")
     public List<RequestWithItemsDto> getAll(@RequestHeader(HEADER_USER_ID) long userId,
                                             @RequestParam(defaultValue = "0") @Min(0) int from,
-                                            @RequestParam(defaultValue = "10") @Min(1) int size) {
-        Pageable pageable = PageRequestWithOffset.of(from, size, Sort.by("created").descending());
+                                            @RequestParam(defaultValue = "10") @Min(1) int size,
+                                            @RequestParam(required = false)
+                                            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                            LocalDateTime beforeCreated,
+                                            @RequestParam(required = false) Long beforeId) {
+        if (beforeCreated != null || beforeId != null) {
+            if (beforeCreated == null || beforeId == null || from != 0) {
+                throw new BadRequestException(ErrorMessages.INVALID_FEED_CURSOR.getMessage());
+            }
+            return requestService.findFeed(userId, beforeCreated, beforeId, size);
+        }
+        Pageable pageable = PageRequestWithOffset.of(from, size, Sort.by("created", "id").descending());
         return requestService.findAll(userId, pageable);
     }
 }
\ No newline at end of file
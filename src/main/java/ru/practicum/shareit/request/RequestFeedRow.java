@@ -0,0 +1,23 @@
+package ru.practicum.shareit.request;
+
+import java.time.LocalDateTime;
+
+/**
+ * A request of the feed joined with one of its items; the item columns are null for a request without items.
+ */
+public interface RequestFeedRow {
+
+    Long getRequestId();
+
+    String getRequestDescription();
+
+    LocalDateTime getRequestCreated();
+
+    Long getItemId();
+
+    String getItemName();
+
+    String getItemDescription();
+
+    Boolean getItemAvailable();
+}
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+
+/**
+ * A request the item could satisfy, found by the matching engine when the item was saved.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "request_matches")
+public class RequestMatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @JoinColumn(name = "request_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Request request;
+
+    @Column(nullable = false)
+    private double score;
+
+    public RequestMatch(long itemId, Request request, double score) {
+        this.itemId = itemId;
+        this.request = request;
+        this.score = score;
+    }
+}
@@ -0,0 +1,23 @@
+package ru.practicum.shareit.request.dao;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.request.RequestMatch;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RequestMatchRepository extends JpaRepository<RequestMatch, Long> {
+
+    @Query("select m from RequestMatch m join fetch m.request r where m.itemId = ?1 order by m.score desc, r.id")
+    List<RequestMatch> findAllByItemId(long itemId);
+
+    @Modifying
+    @Query("delete from RequestMatch m where m.itemId = ?1")
+    void deleteAllByItemId(long itemId);
+
+    @Modifying
+    @Query("delete from RequestMatch m where m.request.id in (select r.id from Request r where r.created < ?1)")
+    int deleteAllByRequestCreatedBefore(LocalDateTime created);
+}
@@ -3,15 +3,57 @@ package ru.practicum.shareit.request.dao;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.datasource.ReadOnlyQuery;
 import ru.practicum.shareit.request.Request;
+import ru.practicum.shareit.request.RequestFeedRow;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface RequestRepository extends JpaRepository<Request, Long> {
 
+    String FEED_SELECT = "select p.id as \"requestId\", p.description as \"requestDescription\", " +
+            "p.created as \"requestCreated\", i.id as \"itemId\", i.name as \"itemName\", " +
+            "i.description as \"itemDescription\", i.available as \"itemAvailable\" " +
+            "from page p left join items i on i.request_id = p.id " +
+            "order by p.created desc, p.id desc, i.id";
+
+    @ReadOnlyQuery
     List<Request> findAllByUserId(long userId, Sort sort);
 
     List<Request> findAllByUserIdNot(long userId, Sort sort);
 
+    @ReadOnlyQuery
     List<Request> findAllByUserIdNot(long userId, Pageable pageable);
+
+    /**
+     * The newest {@code size} requests of other users with their items, in one query.
+     */
+    @Query(value = "with page as (" +
+            "select r.id, r.description, r.created from requests r " +
+            "where r.user_id <> ?1 " +
+            "order by r.created desc, r.id desc limit ?2) " +
+            FEED_SELECT, nativeQuery = true)
+    List<RequestFeedRow> findFeed(long userId, int size);
+
+    /**
+     * Like {@link #findFeed(long, int)}, continuing after the request with the given creation time and id.
+     */
+    @Query(value = "with page as (" +
+            "select r.id, r.description, r.created from requests r " +
+            "where r.user_id <> ?1 and (r.created, r.id) < (?2, ?3) " +
+            "order by r.created desc, r.id desc limit ?4) " +
+            FEED_SELECT, nativeQuery = true)
+    List<RequestFeedRow> findFeedBefore(long userId, LocalDateTime beforeCreated, long beforeId, int size);
+
+    List<Request> findAllByCreatedAfter(LocalDateTime created);
+
+    @Query("select r.id from Request r where r.user.id = ?1")
+    List<Long> findIdsByUserId(long userId);
+
+    @Modifying
+    @Query("delete from Request r where r.user.id = ?1")
+    void deleteAllByUserId(long userId);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.request.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class RequestMatchDto {
+    private Long requestId;
+    private String description;
+    private LocalDateTime created;
+    private Double score;
+}
@@ -4,8 +4,10 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import ru.practicum.shareit.item.dto.ItemWithRequestDto;
 import ru.practicum.shareit.request.Request;
+import ru.practicum.shareit.request.RequestMatch;
 import ru.practicum.shareit.request.dto.RequestCreateDto;
 import ru.practicum.shareit.request.dto.RequestDto;
+import ru.practicum.shareit.request.dto.RequestMatchDto;
 import ru.practicum.shareit.request.dto.RequestWithItemsDto;
 import ru.practicum.shareit.user.model.User;
 
@@ -21,4 +23,9 @@ public interface RequestMapper {
     RequestDto toDto(Request request);
 
     RequestWithItemsDto toRequestWithItemsDto(Request request, List<ItemWithRequestDto> items);
+
+    @Mapping(target = "requestId", source = "request.id")
+    @Mapping(target = "description", source = "request.description")
+    @Mapping(target = "created", source = "request.created")
+    RequestMatchDto toMatchDto(RequestMatch match);
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.request.matching;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.request.Request;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a request is created or deleted, to keep {@link RequestMatchIndex} up to date.
+ * A deleted request has no description.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RequestChangedEvent {
+
+    private final long requestId;
+    private final Long userId;
+    private final String description;
+    private final LocalDateTime created;
+
+    public static RequestChangedEvent created(Request request) {
+        return new RequestChangedEvent(request.getId(), request.getUser().getId(), request.getDescription(),
+                request.getCreated());
+    }
+
+    public static RequestChangedEvent deleted(long requestId) {
+        return new RequestChangedEvent(requestId, null, null, null);
+    }
+
+    public boolean isDeleted() {
+        return description == null;
+    }
+}
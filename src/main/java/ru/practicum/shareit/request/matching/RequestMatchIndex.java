@@ -0,0 +1,215 @@
+package ru.practicum.shareit.request.matching;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.cache.ItemSearchCache;
+import ru.practicum.shareit.request.Request;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Inverted index over words of request descriptions: a word maps to the requests containing it and how often.
+ * Requests are ranked for a text with BM25, so words shared with few requests weigh more than common ones
+ * and long descriptions do not win by length alone. Only requests sharing a word with the text are scored.
+ */
+@Slf4j
+@Component
+public class RequestMatchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MIN_WORD_LENGTH = 3;
+    private static final Comparator<Match> WORST_FIRST = Comparator.comparingDouble(Match::getScore)
+            .thenComparing(Comparator.comparingLong(Match::getRequestId).reversed());
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    /**
+     * Replaces the whole index content; called by {@link RequestMatcher} on startup.
+     */
+    public void load(Collection<Request> requests) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+            requests.forEach(request -> add(request.getId(), request.getUser().getId(), request.getDescription(),
+                    request.getCreated()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed descriptions of {} open requests", requests.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRequestChanged(RequestChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getRequestId());
+        } else {
+            put(event.getRequestId(), event.getUserId(), event.getDescription(), event.getCreated());
+        }
+    }
+
+    public void put(long requestId, long userId, String description, LocalDateTime created) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(requestId);
+            add(requestId, userId, description, created);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long requestId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(requestId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops requests created before the given time; returns how many were removed.
+     */
+    public int removeCreatedBefore(LocalDateTime before) {
+        lock.writeLock().lock();
+        try {
+            var expired = documents.entrySet().stream()
+                    .filter(entry -> entry.getValue().created.isBefore(before))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            expired.forEach(this::removeDocument);
+            return expired.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Best {@code limit} requests sharing a word with the text, highest score first.
+     * Requests of the given user and requests created before {@code createdFrom} are skipped.
+     */
+    public List<Match> match(String text, long excludedUserId, LocalDateTime createdFrom, int limit) {
+        var queryWords = words(text);
+        if (queryWords.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+            var count = documents.size();
+            var averageLength = (double) totalLength / count;
+            for (var word : queryWords) {
+                var posting = postings.get(word);
+                if (posting == null) {
+                    continue;
+                }
+                var idf = Math.log(1 + (count - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (var entry : posting.entrySet()) {
+                    var document = documents.get(entry.getKey());
+                    if (document.userId == excludedUserId || document.created.isBefore(createdFrom)) {
+                        continue;
+                    }
+                    var frequency = entry.getValue();
+                    var norm = K1 * (1 - B + B * document.length / averageLength);
+                    scores.merge(entry.getKey(), idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        var top = new PriorityQueue<>(WORST_FIRST);
+        for (var entry : scores.entrySet()) {
+            top.add(new Match(entry.getKey(), entry.getValue()));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        var result = new ArrayList<>(top);
+        result.sort(WORST_FIRST.reversed());
+        return result;
+    }
+
+    private void add(long requestId, long userId, String description, LocalDateTime created) {
+        var words = Arrays.stream(split(description))
+                .filter(word -> word.length() >= MIN_WORD_LENGTH)
+                .collect(Collectors.groupingBy(word -> word, Collectors.summingInt(word -> 1)));
+        var length = words.values().stream().mapToInt(Integer::intValue).sum();
+        documents.put(requestId, new Document(userId, created, length, words.keySet()));
+        totalLength += length;
+        words.forEach((word, frequency) -> postings.computeIfAbsent(word, key -> new HashMap<>())
+                .put(requestId, frequency));
+    }
+
+    private void removeDocument(long requestId) {
+        var document = documents.remove(requestId);
+        if (document == null) {
+            return;
+        }
+        totalLength -= document.length;
+        for (var word : document.words) {
+            var posting = postings.get(word);
+            posting.remove(requestId);
+            if (posting.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    private static Set<String> words(String text) {
+        return Arrays.stream(split(text))
+                .filter(word -> word.length() >= MIN_WORD_LENGTH)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static String[] split(String text) {
+        return ItemSearchCache.normalize(text).split("[^\\p{L}\\p{N}]+");
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static final class Match {
+        private final long requestId;
+        private final double score;
+    }
+
+    @AllArgsConstructor
+    private static final class Document {
+        private final long userId;
+        private final LocalDateTime created;
+        private final int length;
+        private final Set<String> words;
+    }
+}
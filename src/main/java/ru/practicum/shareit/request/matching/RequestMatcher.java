@@ -0,0 +1,135 @@
+package ru.practicum.shareit.request.matching;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.search.ItemChangedEvent;
+import ru.practicum.shareit.request.Request;
+import ru.practicum.shareit.request.RequestMatch;
+import ru.practicum.shareit.request.dao.RequestMatchRepository;
+import ru.practicum.shareit.request.dao.RequestRepository;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Finds open requests a saved item could satisfy and stores them in {@code request_matches}.
+ * <p>
+ * Matching runs on a few threads of its own after the item's transaction commits, so saving an item does not
+ * wait for it. Items already linked to a request or not available get no matches. Fills {@link RequestMatchIndex}
+ * on startup and periodically drops requests that are no longer open, from the index and from the stored matches.
+ */
+@Slf4j
+@Component
+public class RequestMatcher {
+
+    private final RequestRepository requestRepository;
+    private final RequestMatchRepository requestMatchRepository;
+    private final RequestMatchIndex requestMatchIndex;
+    private final RequestMatchingProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    /**
+     * Single-thread workers; saves of one item always go to the same worker, so they are matched in order.
+     */
+    private final ThreadPoolExecutor[] workers;
+
+    public RequestMatcher(RequestRepository requestRepository, RequestMatchRepository requestMatchRepository,
+                          RequestMatchIndex requestMatchIndex, RequestMatchingProperties properties,
+                          TransactionTemplate transactionTemplate) {
+        this.requestRepository = requestRepository;
+        this.requestMatchRepository = requestMatchRepository;
+        this.requestMatchIndex = requestMatchIndex;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        var threads = new AtomicInteger();
+        this.workers = IntStream.range(0, Math.max(1, properties.getPoolSize()))
+                .mapToObj(i -> new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                        task -> {
+                            var thread = new Thread(task, "request-matching-" + threads.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        (task, pool) -> log.warn("Request matching queue is full, an item is left unmatched")))
+                .toArray(ThreadPoolExecutor[]::new);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        Arrays.stream(workers).forEach(ThreadPoolExecutor::shutdown);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        var requests = transactionTemplate.execute(status -> requestRepository.findAllByCreatedAfter(openFrom()));
+        requestMatchIndex.load(requests);
+    }
+
+    @Scheduled(initialDelayString = "${shareit.request.matching.prune-interval:PT1H}",
+            fixedDelayString = "${shareit.request.matching.prune-interval:PT1H}")
+    public void prune() {
+        var openFrom = openFrom();
+        var removed = requestMatchIndex.removeCreatedBefore(openFrom);
+        var deleted = transactionTemplate.execute(status ->
+                requestMatchRepository.deleteAllByRequestCreatedBefore(openFrom));
+        log.info("Removed {} requests no longer open from the match index and {} of their matches", removed,
+                deleted);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (!event.isDeleted()) {
+            workers[(int) Math.floorMod(event.getItemId(), (long) workers.length)].execute(() -> match(event));
+        }
+    }
+
+    /**
+     * Replaces the stored matches of the saved item.
+     */
+    public void match(ItemChangedEvent event) {
+        var itemId = event.getItemId();
+        List<RequestMatchIndex.Match> matches = List.of();
+        if (event.getRequestId() == null && event.isAvailable()) {
+            matches = requestMatchIndex.match(event.getName() + " " + event.getDescription(), event.getOwnerId(),
+                    openFrom(), properties.getLimit());
+        }
+        var found = matches;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                requestMatchRepository.deleteAllByItemId(itemId);
+                // requests deleted since they were indexed are skipped instead of failing the other matches
+                var requests = requestRepository.findAllById(found.stream()
+                                .map(RequestMatchIndex.Match::getRequestId)
+                                .collect(Collectors.toList())).stream()
+                        .collect(Collectors.toMap(Request::getId, Function.identity()));
+                found.stream()
+                        .filter(match -> requests.containsKey(match.getRequestId()))
+                        .forEach(match -> requestMatchRepository.save(new RequestMatch(itemId,
+                                requests.get(match.getRequestId()), match.getScore())));
+            });
+        } catch (DataIntegrityViolationException e) {
+            // the item was deleted meanwhile, or a request right after it was read
+            log.debug("Matches of item {} not saved: {}", itemId, e.getMessage());
+            return;
+        }
+        log.debug("Item {} matches {} requests", itemId, found.size());
+    }
+
+    private LocalDateTime openFrom() {
+        return LocalDateTime.now().minus(properties.getOpenFor());
+    }
+}
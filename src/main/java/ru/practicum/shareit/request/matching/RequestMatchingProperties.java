@@ -0,0 +1,38 @@
+package ru.practicum.shareit.request.matching;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.request.matching")
+public class RequestMatchingProperties {
+
+    /**
+     * Requests older than this are no longer suggested to owners of new items.
+     */
+    private Duration openFor = Duration.ofDays(30);
+
+    /**
+     * Delay between removals of requests that are no longer open from the index.
+     */
+    private Duration pruneInterval = Duration.ofHours(1);
+
+    /**
+     * Maximum number of requests suggested for one item.
+     */
+    private int limit = 10;
+
+    /**
+     * Threads matching saved items against the requests.
+     */
+    private int poolSize = 2;
+
+    /**
+     * Saved items waiting to be matched per thread; when the queue is full new items are not matched.
+     */
+    private int queueCapacity = 1000;
+}
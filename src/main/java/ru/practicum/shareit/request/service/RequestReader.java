@@ -0,0 +1,40 @@
+package ru.practicum.shareit.request.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.exception.ErrorMessages;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.request.dao.RequestRepository;
+import ru.practicum.shareit.request.dto.RequestWithItemsDto;
+import ru.practicum.shareit.request.mapper.RequestMapper;
+import ru.practicum.shareit.singleflight.SingleFlight;
+
+import java.util.stream.Collectors;
+
+/**
+ * Loads single requests for {@link RequestServiceImpl}. A separate bean, so the calls go through the proxy and
+ * are coalesced by {@link SingleFlight} on the request id alone; the caller checks the user beforehand.
+ */
+@Component
+@RequiredArgsConstructor
+class RequestReader {
+
+    private final RequestRepository requestRepository;
+    private final ItemRepository itemRepository;
+    private final RequestMapper requestMapper;
+    private final ItemMapper itemMapper;
+
+    @SingleFlight
+    @Transactional(readOnly = true)
+    public RequestWithItemsDto findById(long requestId) {
+        var request = requestRepository.findById(requestId)
+                .orElseThrow(() -> new NotFoundException(ErrorMessages.REQUEST_NOT_FOUND.getFormatMessage(requestId)));
+        var items = itemRepository.findAllByRequestId(requestId).stream()
+                .map(itemMapper::toItemWithRequestDto)
+                .collect(Collectors.toList());
+        return requestMapper.toRequestWithItemsDto(request, items);
+    }
+}
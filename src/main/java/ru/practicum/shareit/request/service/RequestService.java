@@ -5,6 +5,7 @@ import ru.practicum.shareit.request.dto.RequestCreateDto;
 import ru.practicum.shareit.request.dto.RequestDto;
 import ru.practicum.shareit.request.dto.RequestWithItemsDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface RequestService {
@@ -15,5 +16,15 @@ public interface RequestService {
 
     List<RequestWithItemsDto> findByUserId(long userId);
 
+    /**
+     * Requests of other users, newest first. The first page is read like {@link #findFeed}; later offsets
+     * are read with OFFSET, which gets slower the deeper the page.
+     */
     List<RequestWithItemsDto> findAll(long userId, Pageable pageable);
+
+    /**
+     * Requests of other users created before the given one (by creation time, then id), newest first,
+     * with their items, in one query. The last request of a page is the cursor of the next one.
+     */
+    List<RequestWithItemsDto> findFeed(long userId, LocalDateTime beforeCreated, long beforeId, int size);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package ru.practicum.shareit.request.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -11,16 +12,22 @@ import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.dto.ItemWithRequestDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.request.Request;
+import ru.practicum.shareit.request.RequestFeedRow;
 import ru.practicum.shareit.request.dao.RequestRepository;
 import ru.practicum.shareit.request.dto.RequestCreateDto;
 import ru.practicum.shareit.request.dto.RequestDto;
 import ru.practicum.shareit.request.dto.RequestWithItemsDto;
 import ru.practicum.shareit.request.mapper.RequestMapper;
+import ru.practicum.shareit.request.matching.RequestChangedEvent;
 import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.util.InLists;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,8 +37,10 @@ public class RequestServiceImpl implements RequestService {
     private final RequestRepository requestRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final RequestReader requestReader;
     private final RequestMapper requestMapper;
     private final ItemMapper itemMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -40,20 +49,19 @@ public class RequestServiceImpl implements RequestService {
                 .orElseThrow(() -> new NotFoundException(ErrorMessages.USER_NOT_FOUND.getFormatMessage(userId)));
         var rq = requestMapper.toModel(requestCreateDto, user, LocalDateTime.now());
         var request = requestRepository.save(rq);
+        eventPublisher.publishEvent(RequestChangedEvent.created(request));
         return requestMapper.toDto(request);
     }
 
+    /**
+     * Not transactional itself: the user is checked on its own, then concurrent calls share the load of
+     * {@link RequestReader}.
+     */
     @Override
-    @Transactional(readOnly = true)
     public RequestWithItemsDto findById(long userId, long requestId) {
         userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException(ErrorMessages.USER_NOT_FOUND.getFormatMessage(userId)));
-        var request = requestRepository.findById(requestId)
-                .orElseThrow(() -> new NotFoundException(ErrorMessages.REQUEST_NOT_FOUND.getFormatMessage(requestId)));
-        var items = itemRepository.findAllByRequestId(requestId).stream()
-                .map(itemMapper::toItemWithRequestDto)
-                .collect(Collectors.toList());
-        return requestMapper.toRequestWithItemsDto(request, items);
+        return requestReader.findById(requestId);
     }
 
     @Override
@@ -70,21 +78,49 @@ public class RequestServiceImpl implements RequestService {
     public List<RequestWithItemsDto> findAll(long userId, Pageable pageable) {
         userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException(ErrorMessages.USER_NOT_FOUND.getFormatMessage(userId)));
+        if (pageable.getOffset() == 0) {
+            return toFeed(requestRepository.findFeed(userId, pageable.getPageSize()));
+        }
         List<Request> requests = requestRepository.findAllByUserIdNot(userId, pageable);
         return getItems(requests);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<RequestWithItemsDto> findFeed(long userId, LocalDateTime beforeCreated, long beforeId, int size) {
+        userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException(ErrorMessages.USER_NOT_FOUND.getFormatMessage(userId)));
+        return toFeed(requestRepository.findFeedBefore(userId, beforeCreated, beforeId, size));
+    }
+
+    private List<RequestWithItemsDto> toFeed(List<RequestFeedRow> rows) {
+        Map<Long, RequestWithItemsDto> requests = new LinkedHashMap<>();
+        for (var row : rows) {
+            var request = requests.computeIfAbsent(row.getRequestId(), id -> RequestWithItemsDto.builder()
+                    .id(id)
+                    .description(row.getRequestDescription())
+                    .created(row.getRequestCreated())
+                    .items(new ArrayList<>())
+                    .build());
+            if (row.getItemId() != null) {
+                request.getItems().add(itemMapper.toItemWithRequestDto(row));
+            }
+        }
+        return new ArrayList<>(requests.values());
+    }
+
     private List<RequestWithItemsDto> getItems(List<Request> requests) {
         var requestsId = requests.stream()
                 .map(Request::getId)
                 .collect(Collectors.toList());
-        var items = itemRepository.findAllByRequestIdIn(requestsId)
+        var items = InLists.findAll(requestsId, itemRepository::findAllByRequestIdIn)
                 .stream()
                 .map(itemMapper::toItemWithRequestDto)
                 .collect(Collectors.groupingBy(ItemWithRequestDto::getRequestId, Collectors.toList()));
 
         return requests.stream()
-                .map(r -> requestMapper.toRequestWithItemsDto(r, items.getOrDefault(r.getId(), Collections.emptyList())))
+                .map(r -> requestMapper.toRequestWithItemsDto(r,
+                        items.getOrDefault(r.getId(), Collections.emptyList())))
                 .collect(Collectors.toList());
     }
 }
\ No newline at end of file
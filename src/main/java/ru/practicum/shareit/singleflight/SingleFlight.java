@@ -0,0 +1,16 @@
+package ru.practicum.shareit.singleflight;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Concurrent calls of the method with equal arguments share one execution: the first call runs,
+ * the others wait for it and get the same result or exception. For reads only; the shared result
+ * must not be modified by callers.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+}
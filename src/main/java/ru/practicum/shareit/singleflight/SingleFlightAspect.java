@@ -0,0 +1,92 @@
+package ru.practicum.shareit.singleflight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Implements {@link SingleFlight}. Runs before the transaction interceptor, so waiting calls open no
+ * transaction. Calls made inside a running transaction are not shared, as they could see its
+ * uncommitted changes. Counts executed and coalesced calls per method in {@code shareit.single.flight.calls}.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SingleFlightAspect {
+
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Method, Counter[]> counters = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+
+    public SingleFlightAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("@annotation(ru.practicum.shareit.singleflight.SingleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        var key = new Key(method, Arrays.asList(joinPoint.getArgs()));
+        var call = new CompletableFuture<>();
+        var running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            counters(method)[1].increment();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause();
+            }
+        }
+        counters(method)[0].increment();
+        try {
+            var result = joinPoint.proceed();
+            call.complete(result);
+            return result;
+        } catch (Throwable e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private Counter[] counters(Method method) {
+        return counters.computeIfAbsent(method, m -> {
+            var name = m.getDeclaringClass().getSimpleName() + "." + m.getName();
+            return new Counter[]{counter(name, "executed"), counter(name, "coalesced")};
+        });
+    }
+
+    private Counter counter(String method, String result) {
+        return Counter.builder("shareit.single.flight.calls")
+                .tag("method", method)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Key {
+        private final Method method;
+        private final List<Object> args;
+    }
+}
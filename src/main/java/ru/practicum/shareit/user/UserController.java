@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.bulkhead.Bulkhead;
 import ru.practicum.shareit.constraint.Create;
 import ru.practicum.shareit.constraint.Update;
 import ru.practicum.shareit.logging.Logging;
@@ -15,11 +16,13 @@ import java.util.List;
 @RestController
 @RequestMapping(path = "/users")
 @RequiredArgsConstructor
+@Bulkhead(Bulkhead.READS)
 public class UserController {
 
     private final UserService userService;
 
     @Logging
+    @Bulkhead(Bulkhead.WRITES)
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public UserDto create(@RequestBody @Validated(Create.class) UserDto user) {
@@ -33,18 +36,21 @@ public class UserController {
     }
 
     @Logging
+    @Bulkhead(Bulkhead.LISTINGS)
     @GetMapping
     public List<UserDto> getAll() {
         return userService.getAll();
     }
 
     @Logging
+    @Bulkhead(Bulkhead.WRITES)
     @PatchMapping("/{id}")
     public UserDto update(@PathVariable long id, @RequestBody @Validated(Update.class) UserDto user) {
         return userService.update(id, user);
     }
 
     @Logging
+    @Bulkhead(Bulkhead.WRITES)
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void delete(@PathVariable long id) {
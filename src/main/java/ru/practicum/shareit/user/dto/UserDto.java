@@ -8,6 +8,8 @@ import ru.practicum.shareit.constraint.Create;
 import ru.practicum.shareit.constraint.NullOrNotBlank;
 import ru.practicum.shareit.constraint.Update;
 
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotBlank;
 
@@ -22,4 +24,10 @@ public class UserDto {
     @NotBlank(groups = {Create.class})
     @NullOrNotBlank(groups = {Update.class})
     private String email;
+    @DecimalMin(value = "-90", groups = {Create.class, Update.class})
+    @DecimalMax(value = "90", groups = {Create.class, Update.class})
+    private Double latitude;
+    @DecimalMin(value = "-180", groups = {Create.class, Update.class})
+    @DecimalMax(value = "180", groups = {Create.class, Update.class})
+    private Double longitude;
 }
\ No newline at end of file
@@ -2,10 +2,14 @@ package ru.practicum.shareit.user.model;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Getter
 @Setter
 @Table(name = "users")
@@ -17,4 +21,6 @@ public class User {
     private String name;
     @Column(nullable = false)
     private String email;
+    private Double latitude;
+    private Double longitude;
 }
\ No newline at end of file
@@ -1,13 +1,22 @@
 package ru.practicum.shareit.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.ErrorMessages;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.cache.ItemSearchChangedEvent;
+import ru.practicum.shareit.item.cache.OwnerItemsChangedEvent;
+import ru.practicum.shareit.item.dao.CommentRepository;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.search.ItemChangedEvent;
+import ru.practicum.shareit.request.dao.RequestRepository;
+import ru.practicum.shareit.request.matching.RequestChangedEvent;
 import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
+import ru.practicum.shareit.util.Locations;
 
 import java.util.List;
 
@@ -16,11 +25,16 @@ import java.util.List;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final CommentRepository commentRepository;
+    private final RequestRepository requestRepository;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public UserDto create(UserDto user) {
+        Locations.check(user.getLatitude(), user.getLongitude());
         return userMapper.userToDto(userRepository.save(userMapper.dtoToUser(user)));
     }
 
@@ -45,6 +59,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new NotFoundException(ErrorMessages.USER_NOT_FOUND.getFormatMessage(id)));
         userDto.setId(id);
         userMapper.dtoToUser(oldUser, userDto);
+        Locations.check(oldUser.getLatitude(), oldUser.getLongitude());
         var user = userRepository.save(oldUser);
         return userMapper.userToDto(user);
     }
@@ -52,6 +67,20 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public void delete(Long id) {
+        var itemIds = itemRepository.findIdsByOwnerId(id);
+        var requestIds = requestRepository.findIdsByUserId(id);
+        // Dependent rows are removed through JPQL rather than ON DELETE CASCADE,
+        // so Hibernate invalidates the cached items, requests and comment queries.
+        itemRepository.updateCommentStatsWithoutAuthor(id);
+        commentRepository.deleteAllByAuthorId(id);
+        itemRepository.deleteAllByOwnerId(id);
+        requestRepository.deleteAllByUserId(id);
         userRepository.deleteById(id);
+        // removed bookings and comments of this user also change other owners' item lists
+        eventPublisher.publishEvent(OwnerItemsChangedEvent.forAll());
+        eventPublisher.publishEvent(ItemSearchChangedEvent.forAll());
+        itemIds.forEach(itemId -> eventPublisher.publishEvent(ItemChangedEvent.deleted(itemId)));
+        requestIds.forEach(requestId -> eventPublisher.publishEvent(RequestChangedEvent.deleted(requestId)));
     }
-}
\ No newline at end of file
+
+}
@@ -0,0 +1,56 @@
+package ru.practicum.shareit.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Runs queries taking an IN list of ids in chunks of at most {@link #MAX_CHUNK_SIZE} distinct ids.
+ * Each chunk is padded to the next power of two by repeating its last id, so a query has a handful of
+ * statement shapes instead of one per list length, and a large list never reaches the bind parameter limit.
+ * <p>
+ * Results of the chunks are concatenated: a sorted query is sorted within a chunk only, which keeps
+ * the order among rows of one id.
+ */
+public final class InLists {
+
+    public static final int MAX_CHUNK_SIZE = 512;
+
+    private InLists() {
+    }
+
+    public static <T, R> List<R> findAll(Collection<T> ids, Function<List<T>, List<R>> query) {
+        return findAll(ids, MAX_CHUNK_SIZE, query);
+    }
+
+    static <T, R> List<R> findAll(Collection<T> ids, int chunkSize, Function<List<T>, List<R>> query) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        var distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinct.size() <= chunkSize) {
+            return query.apply(pad(distinct));
+        }
+        List<R> result = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            var chunk = distinct.subList(from, Math.min(from + chunkSize, distinct.size()));
+            result.addAll(query.apply(pad(chunk)));
+        }
+        return result;
+    }
+
+    static <T> List<T> pad(List<T> chunk) {
+        var size = Integer.highestOneBit(chunk.size());
+        if (size == chunk.size()) {
+            return chunk;
+        }
+        var padded = new ArrayList<>(chunk);
+        var last = chunk.get(chunk.size() - 1);
+        while (padded.size() < size << 1) {
+            padded.add(last);
+        }
+        return padded;
+    }
+}
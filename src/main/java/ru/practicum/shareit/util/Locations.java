@@ -0,0 +1,19 @@
+package ru.practicum.shareit.util;
+
+import ru.practicum.shareit.exception.BadRequestException;
+import ru.practicum.shareit.exception.ErrorMessages;
+
+/**
+ * Checks of optional locations of users, items and nearby searches: either both coordinates or neither.
+ */
+public final class Locations {
+
+    private Locations() {
+    }
+
+    public static void check(Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new BadRequestException(ErrorMessages.INVALID_LOCATION.getMessage());
+        }
+    }
+}
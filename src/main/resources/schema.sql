@@ -11,6 +11,8 @@ CREATE TABLE IF NOT EXISTS requests (
     description varchar(1000) NOT NULL,
     created timestamp NOT NULL
     );
+-- serves the keyset-paged request feed ordered by (created, id) descending
+CREATE INDEX IF NOT EXISTS requests_created_id_idx ON requests (created DESC, id DESC);
 
 CREATE TABLE IF NOT EXISTS items (
     id bigint generated by default as identity PRIMARY KEY,
@@ -30,10 +32,65 @@ CREATE TABLE IF NOT EXISTS booking (
     end_booking timestamp NOT NULL
     );
 
+CREATE INDEX IF NOT EXISTS booking_booker_start_idx ON booking (booker_id, start_booking);
+CREATE INDEX IF NOT EXISTS booking_booker_end_idx ON booking (booker_id, end_booking);
+CREATE INDEX IF NOT EXISTS booking_item_start_idx ON booking (item_id, start_booking);
+CREATE INDEX IF NOT EXISTS booking_end_idx ON booking (end_booking);
+CREATE INDEX IF NOT EXISTS booking_item_booker_status_end_idx ON booking (item_id, booker_id, status, end_booking);
+
+CREATE TABLE IF NOT EXISTS booking_archive (
+    id bigint PRIMARY KEY,
+    booker_id bigint NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    item_id bigint NOT NULL REFERENCES items(id) ON DELETE CASCADE,
+    status varchar(50) NOT NULL,
+    start_booking timestamp NOT NULL,
+    end_booking timestamp NOT NULL
+    );
+
+CREATE INDEX IF NOT EXISTS booking_archive_booker_start_idx ON booking_archive (booker_id, start_booking);
+CREATE INDEX IF NOT EXISTS booking_archive_item_start_idx ON booking_archive (item_id, start_booking);
+CREATE INDEX IF NOT EXISTS booking_archive_item_booker_status_end_idx ON booking_archive (item_id, booker_id, status, end_booking);
+
+CREATE OR REPLACE VIEW booking_history AS
+    SELECT id, booker_id, item_id, status, start_booking, end_booking FROM booking
+    UNION ALL
+    SELECT id, booker_id, item_id, status, start_booking, end_booking FROM booking_archive;
+
 CREATE TABLE IF NOT EXISTS comments (
     id bigint generated by default as identity PRIMARY KEY,
     author_id bigint NOT NULL REFERENCES users(id) ON DELETE CASCADE,
     item_id bigint NOT NULL REFERENCES items(id) ON DELETE CASCADE,
     text varchar(1000) NOT NULL,
     created timestamp NOT NULL
-    );
\ No newline at end of file
+    );
+CREATE INDEX IF NOT EXISTS comments_item_id_idx ON comments (item_id, id);
+CREATE INDEX IF NOT EXISTS comments_item_author_idx ON comments (item_id, author_id);
+
+-- filled for existing rows by the item stats rebuild job (shareit.item.stats-rebuild.enabled)
+ALTER TABLE items ADD COLUMN IF NOT EXISTS comment_count bigint NOT NULL DEFAULT 0;
+ALTER TABLE items ADD COLUMN IF NOT EXISTS reviewer_count bigint NOT NULL DEFAULT 0;
+ALTER TABLE items ADD COLUMN IF NOT EXISTS last_comment_at timestamp;
+ALTER TABLE items ADD COLUMN IF NOT EXISTS created timestamp NOT NULL DEFAULT current_timestamp;
+
+-- optional pickup location in degrees, searched through the in-memory geo grid
+ALTER TABLE users ADD COLUMN IF NOT EXISTS latitude double precision;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS longitude double precision;
+ALTER TABLE items ADD COLUMN IF NOT EXISTS latitude double precision;
+ALTER TABLE items ADD COLUMN IF NOT EXISTS longitude double precision;
+
+-- items created, updated or deleted since a search index snapshot; no foreign key, deletions are logged too
+CREATE TABLE IF NOT EXISTS item_change_log (
+    id bigint generated by default as identity PRIMARY KEY,
+    item_id bigint NOT NULL,
+    changed_at timestamp NOT NULL
+    );
+CREATE INDEX IF NOT EXISTS item_change_log_changed_at_idx ON item_change_log (changed_at);
+
+-- open requests an item could satisfy, found by the request matching engine after the item is saved
+CREATE TABLE IF NOT EXISTS request_matches (
+    id bigint generated by default as identity PRIMARY KEY,
+    item_id bigint NOT NULL REFERENCES items(id) ON DELETE CASCADE,
+    request_id bigint NOT NULL REFERENCES requests(id) ON DELETE CASCADE,
+    score double precision NOT NULL,
+    CONSTRAINT request_matches_item_request_uq UNIQUE (item_id, request_id)
+    );
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.booking.archive;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.enums.BookingState;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.util.PageRequestWithOffset;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Transactional
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archive;MODE=PostgreSQL",
+        "shareit.booking.archive.enabled=true",
+        "shareit.booking.archive.horizon=1h",
+        "shareit.booking.archive.batch-size=1"})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingArchiveJobTest {
+
+    private final BookingArchiveJob bookingArchiveJob;
+    private final BookingService bookingService;
+    private final EntityManager em;
+
+    private final long bookerId = 2;
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    public void archiveOk() {
+        Pageable pageable = PageRequestWithOffset.of(0, 100, Sort.by("start").descending());
+        var pastBefore = bookingService.findAllForUser(bookerId, BookingState.PAST, pageable);
+        var allBefore = bookingService.findAllForUser(bookerId, BookingState.ALL, pageable);
+
+        bookingArchiveJob.archive();
+        em.clear();
+
+        var hot = em.createQuery("select b from Booking b where b.status <> :status", Booking.class)
+                .setParameter("status", BookingStatus.WAITING)
+                .getResultList();
+        var endBefore = LocalDateTime.now().minusHours(1);
+        assertThat(em.createQuery("select count(b) from Booking b", Long.class).getSingleResult(),
+                lessThan((long) allBefore.size()));
+        assertThat(hot, everyItem(hasProperty("end", greaterThan(endBefore))));
+        assertThat(bookingService.findAllForUser(bookerId, BookingState.PAST, pageable), is(pastBefore));
+        assertThat(bookingService.findAllForUser(bookerId, BookingState.ALL, pageable), is(allBefore));
+    }
+}
@@ -0,0 +1,100 @@
+package ru.practicum.shareit.booking.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.booking.model.Booking;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingHistoryRepositoryTest {
+
+    private final BookingHistoryRepository bookingHistoryRepository;
+    private final BookingRepository bookingRepository;
+    private final EntityManager em;
+
+    private final long userId = 3;
+
+    @Test
+    void findByIdAndUserIdOk() {
+        var booking = em.createQuery("select b from Booking as b", Booking.class)
+                .getResultStream()
+                .findAny()
+                .get();
+        var optional = bookingHistoryRepository.findByIdAndUserId(booking.getId(), booking.getBooker().getId());
+        assertTrue(optional.isPresent());
+        var result = optional.get();
+        assertThat(result)
+                .usingRecursiveComparison()
+                .isEqualTo(booking);
+
+        optional = bookingHistoryRepository.findByIdAndUserId(booking.getId(), booking.getItem().getOwner().getId());
+        assertTrue(optional.isPresent());
+        assertThat(optional.get())
+                .usingRecursiveComparison()
+                .isEqualTo(booking);
+    }
+
+    @Test
+    void findByIdAndUserIdNotFound() {
+        var booking = em.createQuery("select b from Booking as b", Booking.class)
+                .getResultStream()
+                .findAny()
+                .get();
+        var optional = bookingHistoryRepository.findByIdAndUserId(booking.getId(), userId);
+        assertTrue(optional.isEmpty());
+    }
+
+    @Test
+    void existsByItemIdAndBookerIdAndStatusAndEndBeforeOk() {
+        var now = LocalDateTime.now();
+        assertTrue(bookingHistoryRepository.existsByItemIdAndBookerIdAndStatusAndEndBefore(3, 2,
+                BookingStatus.APPROVED, now));
+        assertFalse(bookingHistoryRepository.existsByItemIdAndBookerIdAndStatusAndEndBefore(2, 2,
+                BookingStatus.APPROVED, now.minusDays(2)));
+        assertFalse(bookingHistoryRepository.existsByItemIdAndBookerIdAndStatusAndEndBefore(3, userId,
+                BookingStatus.APPROVED, now));
+    }
+
+    @Test
+    void archivedBookingStaysInHistory() {
+        var now = LocalDateTime.now();
+        var booking = em.createQuery("select b from Booking as b where b.status = :status and b.end < :now",
+                        Booking.class)
+                .setParameter("status", BookingStatus.APPROVED)
+                .setParameter("now", now)
+                .getResultStream()
+                .findAny()
+                .get();
+        em.clear();
+        var total = bookingRepository.count();
+
+        var ids = bookingRepository.findArchivableIds(now, PageRequest.of(0, 1));
+        var copied = bookingRepository.copyToArchive(ids);
+        var deleted = bookingRepository.deleteArchived(ids);
+        assertThat(copied).isEqualTo(1);
+        assertThat(deleted).isEqualTo(1);
+        assertThat(bookingRepository.count()).isEqualTo(total - 1);
+
+        ids = bookingRepository.findArchivableIds(now, PageRequest.of(0, Integer.MAX_VALUE));
+        bookingRepository.copyToArchive(ids);
+        bookingRepository.deleteArchived(ids);
+
+        assertThat(ids).isNotEmpty();
+        assertThat(bookingRepository.findById(booking.getId())).isEmpty();
+        var result = bookingHistoryRepository.findById(booking.getId());
+        assertTrue(result.isPresent());
+        assertThat(result.get().getStatus()).isEqualTo(booking.getStatus());
+        assertThat(result.get().getEnd()).isEqualTo(booking.getEnd());
+    }
+}
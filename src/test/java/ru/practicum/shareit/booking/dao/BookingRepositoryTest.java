@@ -9,6 +9,7 @@ import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.booking.enums.BookingStatus;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingShort;
+import ru.practicum.shareit.booking.model.BookingView;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.util.PageRequestWithOffset;
 
@@ -19,7 +20,6 @@ import java.util.Comparator;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
@@ -30,40 +30,9 @@ class BookingRepositoryTest {
 
     private final long ownerId = 1;
     private final long bookerId = 2;
-    private final long userId = 3;
 
     @Test
-    void findByIdAndUserIdOk() {
-        var booking = em.createQuery("select b from Booking as b", Booking.class)
-                .getResultStream()
-                .findAny()
-                .get();
-        var optional = bookingRepository.findByIdAndUserId(booking.getId(), booking.getBooker().getId());
-        assertTrue(optional.isPresent());
-        var result = optional.get();
-        assertThat(result)
-                .usingRecursiveComparison()
-                .isEqualTo(booking);
-
-        optional = bookingRepository.findByIdAndUserId(booking.getId(), booking.getItem().getOwner().getId());
-        assertTrue(optional.isPresent());
-        assertThat(result)
-                .usingRecursiveComparison()
-                .isEqualTo(booking);
-    }
-
-    @Test
-    void findByIdAndUserIdNotFound() {
-        var booking = em.createQuery("select b from Booking as b", Booking.class)
-                .getResultStream()
-                .findAny()
-                .get();
-        var optional = bookingRepository.findByIdAndUserId(booking.getId(), userId);
-        assertTrue(optional.isEmpty());
-    }
-
-    @Test
-    void findAllByBookerCurrentOk() {
+    void findViewsByBookerCurrentOk() {
         var from = 0;
         var size = 10;
         var sort = Sort.by("start").descending();
@@ -75,8 +44,9 @@ class BookingRepositoryTest {
                 .filter(b -> b.getBooker().getId().equals(bookerId))
                 .filter(b -> b.getStart().isBefore(currentTime) && b.getEnd().isAfter(currentTime))
                 .sorted(Comparator.comparing(Booking::getStart).reversed())
+                .map(this::toView)
                 .collect(Collectors.toList());
-        var result = bookingRepository.findAllByBookerCurrent(bookerId, LocalDateTime.now(), pageable);
+        var result = bookingRepository.findViewsByBookerCurrent(bookerId, LocalDateTime.now(), pageable);
 
         assertThat(result).hasSize(booking.size());
         assertThat(result)
@@ -85,7 +55,7 @@ class BookingRepositoryTest {
     }
 
     @Test
-    void findAllByOwnerCurrentOk() {
+    void findViewsByItemOwnerCurrentOk() {
         var from = 0;
         var size = 10;
         var sort = Sort.by("start").descending();
@@ -97,8 +67,9 @@ class BookingRepositoryTest {
                 .filter(b -> b.getItem().getOwner().getId().equals(ownerId))
                 .filter(b -> b.getStart().isBefore(currentTime) && b.getEnd().isAfter(currentTime))
                 .sorted(Comparator.comparing(Booking::getStart).reversed())
+                .map(this::toView)
                 .collect(Collectors.toList());
-        var result = bookingRepository.findAllByItemOwnerCurrent(ownerId, LocalDateTime.now(), pageable);
+        var result = bookingRepository.findViewsByItemOwnerCurrent(ownerId, LocalDateTime.now(), pageable);
 
         assertThat(result).hasSize(booking.size());
         assertThat(result)
@@ -149,6 +120,11 @@ class BookingRepositoryTest {
         return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
     }
 
+    private BookingView toView(Booking booking) {
+        return new BookingView(booking.getId(), booking.getBooker().getId(), booking.getItem().getId(),
+                booking.getItem().getName(), booking.getStart(), booking.getEnd(), booking.getStatus());
+    }
+
     private BookingShort convert(Booking booking) {
         if (booking == null) {
             return null;
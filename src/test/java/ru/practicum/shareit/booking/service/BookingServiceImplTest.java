@@ -1,6 +1,8 @@
 package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -13,9 +15,11 @@ import ru.practicum.shareit.booking.enums.BookingState;
 import ru.practicum.shareit.booking.enums.BookingStatus;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingHistory;
 import ru.practicum.shareit.exception.AccessDeniedException;
 import ru.practicum.shareit.exception.ErrorMessages;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.util.PageRequestWithOffset;
 
 import javax.persistence.EntityManager;
@@ -24,11 +28,15 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.in;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Transactional
@@ -236,6 +244,24 @@ class BookingServiceImplTest {
                 .isEqualTo(bookingToCompare);
     }
 
+    @Test
+    public void findAllWithoutLoadingBookingsOk() {
+        em.clear();
+        Pageable pageable = PageRequestWithOffset.of(0, 100, Sort.by("start").descending());
+
+        var forUser = bookingService.findAllForUser(bookerId, BookingState.ALL, pageable);
+        var forOwner = bookingService.findAllForOwner(ownerId, BookingState.FUTURE, pageable);
+
+        assertThat(forUser.isEmpty(), equalTo(false));
+        assertThat(forOwner.isEmpty(), equalTo(false));
+        Set<?> keys = em.unwrap(Session.class).getStatistics().getEntityKeys();
+        var loaded = keys.stream()
+                .map(key -> ((EntityKey) key).getEntityName())
+                .collect(Collectors.toSet());
+        assertThat(loaded, everyItem(not(in(List.of(Booking.class.getName(), BookingHistory.class.getName(),
+                Item.class.getName())))));
+    }
+
     @Test
     public void findAllForUserCurrentOk() {
         var bookings = getBookingsForUser();
@@ -0,0 +1,135 @@
+package ru.practicum.shareit.bulkhead;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import ru.practicum.shareit.booking.BookingController;
+import ru.practicum.shareit.booking.dto.BookingCreateDto;
+import ru.practicum.shareit.item.ItemController;
+import ru.practicum.shareit.request.RequestController;
+import ru.practicum.shareit.user.UserController;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private ExecutorService executor;
+    private Controller controller;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        var properties = new BulkheadProperties();
+        properties.setLimits(Map.of(
+                Bulkhead.SEARCH, new BulkheadProperties.Limit(1, Duration.ZERO),
+                Bulkhead.WRITES, new BulkheadProperties.Limit(1, Duration.ofMillis(10))));
+        var factory = new AspectJProxyFactory(new Controller(release, entered));
+        factory.addAspect(new BulkheadAspect(properties, registry));
+        controller = factory.getProxy();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void isolateRejectsCallsOverLimitOk() throws Exception {
+        Future<String> running = executor.submit(controller::search);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(controller::search).isInstanceOf(BulkheadFullException.class);
+        assertThat(registry.get("shareit.bulkhead.active").tag("bulkhead", Bulkhead.SEARCH).gauge().value())
+                .isEqualTo(1);
+        assertThat(registry.get("shareit.bulkhead.rejections").tag("bulkhead", Bulkhead.SEARCH).counter().count())
+                .isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("search");
+        assertThat(registry.get("shareit.bulkhead.active").tag("bulkhead", Bulkhead.SEARCH).gauge().value())
+                .isZero();
+    }
+
+    @Test
+    void isolateKeepsBulkheadsApartOk() throws Exception {
+        executor.submit(controller::search);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(controller.create()).isEqualTo("create");
+    }
+
+    @Test
+    void isolateUsesClassBulkheadWithoutMethodOneOk() throws Exception {
+        executor.submit(controller::update);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(controller::create).isInstanceOf(BulkheadFullException.class);
+    }
+
+    @Test
+    void everyEndpointHasConfiguredBulkheadOk() throws Exception {
+        var limits = new BulkheadProperties().getLimits();
+        for (var type : List.of(ItemController.class, BookingController.class, RequestController.class,
+                UserController.class)) {
+            var classBulkhead = AnnotatedElementUtils.findMergedAnnotation(type, Bulkhead.class);
+            assertThat(classBulkhead).as(type.getSimpleName()).isNotNull();
+            Arrays.stream(type.getDeclaredMethods())
+                    .filter(method -> AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class))
+                    .forEach(method -> {
+                        var bulkhead = AnnotatedElementUtils.findMergedAnnotation(method, Bulkhead.class);
+                        var name = (bulkhead == null ? classBulkhead : bulkhead).value();
+                        assertThat(limits).as(method.toString()).containsKey(name);
+                    });
+        }
+        assertThat(AnnotatedElementUtils.findMergedAnnotation(BookingController.class.getMethod("create",
+                long.class, BookingCreateDto.class), Bulkhead.class).value()).isEqualTo(Bulkhead.BOOKING_WRITES);
+    }
+
+    @Bulkhead(Bulkhead.WRITES)
+    static class Controller {
+
+        private final CountDownLatch release;
+        private final CountDownLatch entered;
+
+        Controller(CountDownLatch release, CountDownLatch entered) {
+            this.release = release;
+            this.entered = entered;
+        }
+
+        @Bulkhead(Bulkhead.SEARCH)
+        public String search() throws InterruptedException {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "search";
+        }
+
+        public String update() throws InterruptedException {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "update";
+        }
+
+        public String create() {
+            return "create";
+        }
+    }
+}
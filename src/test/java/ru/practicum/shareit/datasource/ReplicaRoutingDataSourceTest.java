@@ -0,0 +1,58 @@
+package ru.practicum.shareit.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@DirtiesContext
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary;MODE=PostgreSQL",
+        "shareit.datasource.replica.url=jdbc:h2:mem:replica;MODE=PostgreSQL;INIT=RUNSCRIPT FROM 'classpath:schema.sql'",
+        "shareit.datasource.read-your-writes-window=1m"})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ReplicaRoutingDataSourceTest {
+
+    private final UserService userService;
+    private final MeterRegistry meterRegistry;
+
+    private final long ownerId = 1;
+    private final long userId = 3;
+
+    @AfterEach
+    public void tearDown() {
+        CurrentUser.clear();
+    }
+
+    @Test
+    public void readOnlyTransactionUsesReplica() {
+        var routed = getRoutedToReplica();
+
+        assertThat(userService.getAll(), empty());
+        assertThat(getRoutedToReplica(),
+                greaterThan(routed));
+    }
+
+    @Test
+    public void recentWriterReadsFromPrimary() {
+        CurrentUser.set(ownerId);
+        userService.update(ownerId, UserDto.builder().name("owner new name").build());
+
+        assertThat(userService.getAll(), hasItem(hasProperty("name", equalTo("owner new name"))));
+
+        CurrentUser.set(userId);
+        assertThat(userService.getAll(), empty());
+    }
+
+    private double getRoutedToReplica() {
+        return meterRegistry.get("shareit.datasource.routed").tag("pool", "replica").functionCounter().count();
+    }
+}
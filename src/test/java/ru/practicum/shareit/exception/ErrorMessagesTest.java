@@ -0,0 +1,32 @@
+package ru.practicum.shareit.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorMessagesTest {
+
+    @Test
+    public void formatLikeStringFormatOk() {
+        for (var error : ErrorMessages.values()) {
+            var message = error.getMessage();
+            if (message.contains("%d")) {
+                assertThat(error.getFormatMessage(42)).isEqualTo(String.format(message, 42));
+            } else if (message.contains("%s")) {
+                assertThat(error.getFormatMessage("arg")).isEqualTo(String.format(message, "arg"));
+            } else {
+                assertThat(error.getFormatMessage(42)).isEqualTo(message);
+                assertThat(error.getFormatMessage("arg")).isEqualTo(message);
+            }
+        }
+    }
+
+    @Test
+    public void domainExceptionWithoutStackTraceOk() {
+        var exception = new NotFoundException(ErrorMessages.USER_NOT_FOUND.getFormatMessage(1));
+
+        assertThat(exception.getMessage()).isEqualTo("user with id=1 not found");
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(new AccessDeniedException("denied").getStackTrace()).isEmpty();
+    }
+}
@@ -14,19 +14,28 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.bulkhead.Bulkhead;
+import ru.practicum.shareit.bulkhead.BulkheadFullException;
 import ru.practicum.shareit.exception.ErrorMessages;
 import ru.practicum.shareit.item.dto.CommentCreateDto;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemFacetsDto;
+import ru.practicum.shareit.item.dto.ItemSearchFilter;
+import ru.practicum.shareit.item.dto.ItemSearchResultDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingsDto;
+import ru.practicum.shareit.item.enums.ItemSort;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.RequestMatchDto;
 import ru.practicum.shareit.util.PageRequestWithOffset;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -265,6 +274,139 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$[1].id", is(items.get(1).getId()), Long.class));
     }
 
+    @Test
+    void searchSortedOk() throws Exception {
+        var items = List.of(getItemDto(1L));
+        var text = "item";
+        var mockRequest = MockMvcRequestBuilders.get("/items/search")
+                .param("text", text)
+                .param("sort", "REVIEWERS");
+        Pageable pageable = PageRequestWithOffset.of(0, 10, ItemSort.REVIEWERS.getSort());
+        when(itemService.search(text, pageable))
+                .thenReturn(items);
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(items.get(0).getId()), Long.class));
+    }
+
+    @Test
+    void searchUnknownSortFail() throws Exception {
+        var mockRequest = MockMvcRequestBuilders.get("/items/search")
+                .param("text", "item")
+                .param("sort", "PRICE");
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is(ErrorMessages.UNKNOWN_SORT.getFormatMessage("PRICE"))));
+    }
+
+    @Test
+    void searchBulkheadFullFail() throws Exception {
+        var mockRequest = MockMvcRequestBuilders.get("/items/search")
+                .param("text", "item");
+        when(itemService.search("item", PageRequestWithOffset.of(0, 10)))
+                .thenThrow(new BulkheadFullException(Bulkhead.SEARCH));
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error", is(ErrorMessages.BULKHEAD_FULL.getFormatMessage(Bulkhead.SEARCH))));
+    }
+
+    @Test
+    void fuzzySearchOk() throws Exception {
+        var items = List.of(getItemDto(1L));
+        var mockRequest = MockMvcRequestBuilders.get("/items/search")
+                .param("text", "itme")
+                .param("fuzzy", "true");
+        when(itemService.fuzzySearch("itme", PageRequestWithOffset.of(0, 10)))
+                .thenReturn(items);
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(items.get(0).getId()), Long.class));
+    }
+
+    @Test
+    void facetedSearchOk() throws Exception {
+        var result = ItemSearchResultDto.builder()
+                .items(List.of(getItemDto(1L)))
+                .total(1)
+                .facets(ItemFacetsDto.builder()
+                        .withRequest(1)
+                        .owners(Map.of(2L, 1L))
+                        .requests(Map.of(3L, 1L))
+                        .build())
+                .build();
+        var filter = ItemSearchFilter.builder()
+                .ownerId(2L)
+                .hasRequest(true)
+                .freeFrom(LocalDateTime.of(2030, 1, 1, 10, 0))
+                .freeTo(LocalDateTime.of(2030, 1, 2, 10, 0))
+                .build();
+        var mockRequest = MockMvcRequestBuilders.get("/items/search/faceted")
+                .param("text", "drill")
+                .param("ownerId", "2")
+                .param("hasRequest", "true")
+                .param("freeFrom", "2030-01-01T10:00:00")
+                .param("freeTo", "2030-01-02T10:00:00")
+                .param("facetSize", "5");
+        when(itemService.facetedSearch("drill", filter, PageRequestWithOffset.of(0, 10), 5))
+                .thenReturn(result);
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id", is(1L), Long.class))
+                .andExpect(jsonPath("$.total", is(1L), Long.class))
+                .andExpect(jsonPath("$.facets.owners.2", is(1L), Long.class))
+                .andExpect(jsonPath("$.facets.requests.3", is(1L), Long.class));
+    }
+
+    @Test
+    void nearbySearchOk() throws Exception {
+        var items = List.of(getItemDto(1L));
+        var mockRequest = MockMvcRequestBuilders.get("/items/search")
+                .header(CUSTOM_HEADER, 2L)
+                .param("text", "drill")
+                .param("radius", "5");
+        when(itemService.nearbySearch(2L, "drill", null, null, 5.0, PageRequestWithOffset.of(0, 10)))
+                .thenReturn(items);
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(items.get(0).getId()), Long.class));
+    }
+
+    @Test
+    void nearbySearchInvalidLatitudeFail() throws Exception {
+        var mockRequest = MockMvcRequestBuilders.get("/items/search")
+                .param("text", "drill")
+                .param("lat", "91")
+                .param("lon", "0");
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void nearbySearchPartialLocationFail() throws Exception {
+        var mockRequest = MockMvcRequestBuilders.get("/items/search")
+                .header(CUSTOM_HEADER, 2L)
+                .param("text", "drill")
+                .param("lat", "55.75");
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is(ErrorMessages.INVALID_LOCATION.getMessage())));
+        verifyNoInteractions(itemService);
+    }
+
+    @Test
+    void suggestOk() throws Exception {
+        var names = List.of("Drill bits", "Power drill");
+        var mockRequest = MockMvcRequestBuilders.get("/items/suggest")
+                .param("prefix", "dri")
+                .param("size", "5");
+        when(itemService.suggest("dri", 5))
+                .thenReturn(names);
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(names.size())))
+                .andExpect(jsonPath("$[0]", is(names.get(0))));
+    }
+
     @Test
     void searchWithoutTextFail() throws Exception {
         var userId = 1L;
@@ -329,6 +471,74 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.id", is(commentDto.getId()), Long.class));
     }
 
+    @Test
+    void getCommentsOk() throws Exception {
+        var itemId = 1L;
+        var before = 5L;
+        var size = 2;
+        var comments = List.of(
+                CommentDto.builder()
+                        .id(4L)
+                        .authorName("name")
+                        .text("Good item")
+                        .created(getCurrentTime())
+                        .build(),
+                CommentDto.builder()
+                        .id(3L)
+                        .authorName("name")
+                        .text("Bad item")
+                        .created(getCurrentTime().minusHours(1))
+                        .build());
+        var mockRequest = MockMvcRequestBuilders.get("/items/" + itemId + "/comments")
+                .param("before", String.valueOf(before))
+                .param("size", String.valueOf(size));
+        when(itemService.getComments(itemId, before, size))
+                .thenReturn(comments);
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(comments.size())))
+                .andExpect(jsonPath("$[0].id", is(comments.get(0).getId()), Long.class))
+                .andExpect(jsonPath("$[1].id", is(comments.get(1).getId()), Long.class));
+    }
+
+    @Test
+    void getCommentsZeroSizeFail() throws Exception {
+        var mockRequest = MockMvcRequestBuilders.get("/items/1/comments")
+                .param("size", "0");
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getCommentsTooLargeSizeFail() throws Exception {
+        var mockRequest = MockMvcRequestBuilders.get("/items/1/comments")
+                .param("size", "101");
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getRequestMatchesOk() throws Exception {
+        var itemId = 1L;
+        var userId = 1L;
+        var matches = List.of(RequestMatchDto.builder()
+                .requestId(2L)
+                .description("Need a cordless drill")
+                .created(getCurrentTime())
+                .score(1.5)
+                .build());
+        var mockRequest = MockMvcRequestBuilders.get("/items/" + itemId + "/request-matches")
+                .header(CUSTOM_HEADER, userId);
+        when(itemService.getRequestMatches(userId, itemId))
+                .thenReturn(matches);
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(jsonPath("$[0].requestId", is(2L), Long.class))
+                .andExpect(jsonPath("$[0].description", is("Need a cordless drill")))
+                .andExpect(jsonPath("$[0].score", is(1.5)));
+    }
+
     private LocalDateTime getCurrentTime() {
         return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
     }
@@ -0,0 +1,101 @@
+package ru.practicum.shareit.item.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.util.PageRequestWithOffset;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:search-cache;MODE=PostgreSQL")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemSearchCacheTest {
+
+    private final ItemService itemService;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final long ownerId = 1;
+    private final Pageable pageable = PageRequestWithOffset.of(0, 10);
+
+    @Test
+    public void searchCachedByNormalizedTextOk() {
+        var result = ids(itemService.search("text", pageable));
+        assertThat(result, contains(1L, 2L, 3L));
+
+        jdbcTemplate.update("update items set name = 'item 1' where id = 1");
+        assertThat(ids(itemService.search("  TEXT ", pageable)), equalTo(result));
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "itemSearch").tag("result", "hit")
+                .functionCounter().count(), greaterThan(0.0));
+    }
+
+    @Test
+    public void searchInvalidatedByMatchingItemOnlyOk() {
+        var result = ids(itemService.search("text", pageable));
+        jdbcTemplate.update("update items set name = 'item 1' where id = 1");
+
+        itemService.update(ownerId, ItemDto.builder().id(4L).name("item four").build());
+        assertThat(ids(itemService.search("text", pageable)), equalTo(result));
+
+        itemService.update(ownerId, ItemDto.builder().id(2L).available(false).build());
+        assertThat(ids(itemService.search("text", pageable)), contains(3L));
+    }
+
+    @Test
+    public void onItemSearchChangedEvictsContainedQueriesOnlyOk() {
+        var cache = new ItemSearchCache(new ItemSearchCacheProperties());
+        var loads = new AtomicInteger();
+        Supplier<List<ItemDto>> loader = () -> {
+            loads.incrementAndGet();
+            return List.of();
+        };
+        for (var text : List.of("tex", "ext", "a text", "text b", "drill")) {
+            cache.get(text, pageable, loader);
+        }
+
+        cache.onItemSearchChanged(ItemSearchChangedEvent.forTexts("A Text", "nothing"));
+
+        assertThat(cache.indexedKeyCount(), is(2));
+        loads.set(0);
+        cache.get("text b", pageable, loader);
+        cache.get("drill", pageable, loader);
+        assertThat(loads.get(), is(0));
+        cache.get("tex", pageable, loader);
+        cache.get("ext", pageable, loader);
+        cache.get("a text", pageable, loader);
+        assertThat(loads.get(), is(3));
+    }
+
+    @Test
+    public void evictedQueriesLeaveIndexOk() {
+        var properties = new ItemSearchCacheProperties();
+        properties.setMaximumSize(5);
+        var cache = new ItemSearchCache(properties);
+
+        for (int i = 0; i < 100; i++) {
+            cache.get("query " + i, pageable, List::of);
+        }
+
+        assertThat(cache.indexedKeyCount(), lessThanOrEqualTo(5));
+    }
+
+    private List<Long> ids(List<ItemDto> items) {
+        return items.stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList());
+    }
+}
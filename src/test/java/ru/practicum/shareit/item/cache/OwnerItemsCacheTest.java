@@ -0,0 +1,142 @@
+package ru.practicum.shareit.item.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemWithBookingsDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.util.PageRequestWithOffset;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:owner-cache;MODE=PostgreSQL")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class OwnerItemsCacheTest {
+
+    private final ItemService itemService;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final long ownerId = 1;
+    private final Pageable pageable = PageRequestWithOffset.of(0, 10, Sort.by("id"));
+
+    @Test
+    public void getAllCachedUntilItemUpdatedOk() {
+        assertThat(findItem(itemService.getAll(ownerId, pageable), 1).getName(), equalTo("iTEXTtem 1"));
+
+        jdbcTemplate.update("update items set name = 'changed behind the cache' where id = 1");
+        assertThat(findItem(itemService.getAll(ownerId, pageable), 1).getName(), equalTo("iTEXTtem 1"));
+
+        itemService.update(ownerId, ItemDto.builder().id(1L).name("updated").build());
+        assertThat(findItem(itemService.getAll(ownerId, pageable), 1).getName(), equalTo("updated"));
+    }
+
+    @Test
+    public void getLoadsAgainWhenNextBookingStartsOk() {
+        var clock = new MutableClock(Instant.parse("2024-01-01T10:00:00Z"));
+        var cache = new OwnerItemsCache(new OwnerItemsCacheProperties(), clock);
+        var start = LocalDateTime.now(clock).plusMinutes(5);
+        var item = ItemWithBookingsDto.builder()
+                .id(1L)
+                .nextBooking(BookingShortDto.builder().id(1L).start(start).end(start.plusHours(1)).build())
+                .build();
+        var loads = new AtomicInteger();
+        Supplier<List<ItemWithBookingsDto>> loader = () -> {
+            loads.incrementAndGet();
+            return List.of(item);
+        };
+
+        cache.get(ownerId, pageable, loader);
+        clock.advance(Duration.ofMinutes(5).minusSeconds(1));
+        cache.get(ownerId, pageable, loader);
+        assertThat(loads.get(), is(1));
+
+        clock.advance(Duration.ofSeconds(1));
+        cache.get(ownerId, pageable, loader);
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    public void getKeepsBoundedNumberOfPagesOk() {
+        var properties = new OwnerItemsCacheProperties();
+        properties.setMaximumPages(10);
+        var cache = new OwnerItemsCache(properties);
+
+        for (int from = 0; from < 1000; from++) {
+            cache.get(ownerId, PageRequestWithOffset.of(from, 10), List::of);
+        }
+
+        assertThat(cache.pageCount(), lessThanOrEqualTo(10L));
+    }
+
+    @Test
+    public void getLoadsAgainAfterInvalidateOk() {
+        var cache = new OwnerItemsCache(new OwnerItemsCacheProperties());
+        var loads = new AtomicInteger();
+        Supplier<List<ItemWithBookingsDto>> loader = () -> {
+            loads.incrementAndGet();
+            return List.of();
+        };
+
+        cache.get(ownerId, pageable, loader);
+        cache.get(ownerId, pageable, loader);
+        assertThat(loads.get(), is(1));
+
+        cache.invalidate(ownerId);
+        cache.get(ownerId, pageable, loader);
+        assertThat(loads.get(), is(2));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    private ItemWithBookingsDto findItem(List<ItemWithBookingsDto> items, long id) {
+        return items.stream()
+                .filter(item -> item.getId() == id)
+                .findFirst()
+                .orElseThrow();
+    }
+}
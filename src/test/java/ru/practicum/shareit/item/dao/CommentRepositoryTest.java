@@ -4,9 +4,9 @@ import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.CommentShort;
-import ru.practicum.shareit.item.model.Item;
 
 import javax.persistence.EntityManager;
 import java.util.stream.Collectors;
@@ -22,37 +22,46 @@ class CommentRepositoryTest {
     private final EntityManager em;
 
     @Test
-    public void findAllByItemIdOk() {
+    public void findPageByItemIdOk() {
         var itemId = em.createQuery("select c from Comment as c", Comment.class)
                 .getResultStream()
                 .findAny()
                 .get().getItem().getId();
-        var comments = em.createQuery("select c from Comment as c where c.item.id = :id", Comment.class)
+        var comments = em.createQuery("select c from Comment as c where c.item.id = :id order by c.id desc",
+                        Comment.class)
                 .setParameter("id", itemId)
                 .getResultStream()
                 .map(this::convert)
                 .collect(Collectors.toList());
-        var result = commentRepository.findAllByItemId(itemId);
+        var result = commentRepository.findPageByItemId(itemId, Long.MAX_VALUE, PageRequest.of(0, 10));
 
         assertThat(result).hasSize(comments.size());
         assertThat(result).usingRecursiveComparison().isEqualTo(comments);
+
+        var last = comments.get(comments.size() - 1);
+        result = commentRepository.findPageByItemId(itemId, last.getId(), PageRequest.of(0, 10));
+        assertThat(result).isEmpty();
     }
 
     @Test
-    public void findAllByItemIdInOk() {
-        var itemId = em.createQuery("select it from Item as it", Item.class)
+    public void findPageByItemIdLimitOk() {
+        var itemId = em.createQuery("select c.item.id from Comment as c group by c.item.id having count(c) > 1",
+                        Long.class)
                 .getResultStream()
-                .map(Item::getId)
-                .collect(Collectors.toList());
-        var comments = em.createQuery("select c from Comment as c where c.item.id in :id", Comment.class)
+                .findAny()
+                .get();
+        var comments = em.createQuery("select c from Comment as c where c.item.id = :id order by c.id desc",
+                        Comment.class)
                 .setParameter("id", itemId)
                 .getResultStream()
                 .map(this::convert)
                 .collect(Collectors.toList());
-        var result = commentRepository.findAllByItemIdIn(itemId);
 
-        assertThat(result).hasSize(comments.size());
-        assertThat(result).usingRecursiveComparison().isEqualTo(comments);
+        var first = commentRepository.findPageByItemId(itemId, Long.MAX_VALUE, PageRequest.of(0, 1));
+        var second = commentRepository.findPageByItemId(itemId, first.get(0).getId(), PageRequest.of(0, 1));
+
+        assertThat(first).usingRecursiveComparison().isEqualTo(comments.subList(0, 1));
+        assertThat(second).usingRecursiveComparison().isEqualTo(comments.subList(1, 2));
     }
 
     private CommentShort convert(Comment comment) {
@@ -6,10 +6,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.enums.ItemSort;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.util.PageRequestWithOffset;
 
 import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @DataJpaTest
@@ -44,4 +48,29 @@ class ItemRepositoryTest {
         Assertions.assertThat(result).hasSize(items.size());
         Assertions.assertThat(result).usingRecursiveComparison().isEqualTo(items);
     }
+
+    @Test
+    public void searchSortedByReviewsOk() {
+        var text = "text";
+        var items = itemRepository.search(text, Pageable.unpaged());
+
+        assertSorted(itemRepository.search(text, PageRequestWithOffset.of(0, 10, ItemSort.REVIEWERS.getSort())),
+                items, Comparator.comparingLong(Item::getReviewerCount).reversed()
+                        .thenComparing(Item::getId));
+        assertSorted(itemRepository.search(text, PageRequestWithOffset.of(0, 10, ItemSort.COMMENTS.getSort())),
+                items, Comparator.comparingLong(Item::getCommentCount).reversed()
+                        .thenComparing(Item::getId));
+        assertSorted(itemRepository.search(text, PageRequestWithOffset.of(0, 10, ItemSort.RECENT.getSort())),
+                items, Comparator.comparing(Item::getLastCommentAt,
+                                Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                        .thenComparing(Item::getId));
+    }
+
+    private void assertSorted(List<Item> result, List<Item> items, Comparator<Item> comparator) {
+        var expected = items.stream()
+                .sorted(comparator)
+                .map(Item::getId)
+                .collect(Collectors.toList());
+        Assertions.assertThat(result).extracting(Item::getId).isEqualTo(expected);
+    }
 }
\ No newline at end of file
@@ -18,7 +18,7 @@ class ItemMapperTest {
 
     @Test
     public void toModelNullTest() {
-        assertThat(itemMapper.toModel(null, null, null)).isNull();
+        assertThat(itemMapper.toModel(null, null, null, null)).isNull();
     }
 
     @Test
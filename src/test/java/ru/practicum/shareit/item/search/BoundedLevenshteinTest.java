@@ -0,0 +1,26 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedLevenshteinTest {
+
+    @Test
+    public void distanceWithinMaxOk() {
+        assertThat(BoundedLevenshtein.distance("drill", "drill", 2)).isEqualTo(0);
+        assertThat(BoundedLevenshtein.distance("drill", "dril", 2)).isEqualTo(1);
+        assertThat(BoundedLevenshtein.distance("drill", "drlil", 2)).isEqualTo(2);
+        assertThat(BoundedLevenshtein.distance("hammer", "hamer", 1)).isEqualTo(1);
+        assertThat(BoundedLevenshtein.distance("kitten", "sitting", 3)).isEqualTo(3);
+        assertThat(BoundedLevenshtein.distance("", "ab", 2)).isEqualTo(2);
+    }
+
+    @Test
+    public void distanceOverMaxOk() {
+        assertThat(BoundedLevenshtein.distance("kitten", "sitting", 2)).isEqualTo(3);
+        assertThat(BoundedLevenshtein.distance("drill", "ladder", 2)).isEqualTo(3);
+        assertThat(BoundedLevenshtein.distance("saw", "sawhorse", 2)).isEqualTo(3);
+        assertThat(BoundedLevenshtein.distance("abcdef", "fedcba", 1)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,104 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.dto.ItemSearchFilter;
+import ru.practicum.shareit.item.model.ItemIndexEntry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemFacetIndexTest {
+
+    private static final LocalDateTime JANUARY = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime FEBRUARY = LocalDateTime.of(2024, 2, 1, 0, 0);
+
+    private ItemFacetIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new ItemFacetIndex();
+        index.load(List.of(
+                new ItemIndexEntry(1L, "Drill", "", 10L, null, JANUARY, null, null),
+                new ItemIndexEntry(2L, "Saw", "", 10L, 100L, JANUARY, null, null),
+                new ItemIndexEntry(3L, "Ladder", "", 20L, 100L, FEBRUARY, null, null),
+                new ItemIndexEntry(4L, "Hammer", "", 30L, 200L, FEBRUARY, null, null)));
+    }
+
+    @Test
+    public void filterOk() {
+        assertThat(filter(ItemSearchFilter.builder().ownerId(10L).build())).containsExactly(1L, 2L);
+        assertThat(filter(ItemSearchFilter.builder().hasRequest(true).build())).containsExactly(2L, 3L, 4L);
+        assertThat(filter(ItemSearchFilter.builder().hasRequest(false).build())).containsExactly(1L);
+        assertThat(filter(ItemSearchFilter.builder().requestId(100L).ownerId(20L).build())).containsExactly(3L);
+        assertThat(filter(ItemSearchFilter.builder().createdFrom(FEBRUARY).build())).containsExactly(3L, 4L);
+        assertThat(filter(ItemSearchFilter.builder().createdTo(FEBRUARY).build())).containsExactly(1L, 2L);
+        assertThat(filter(ItemSearchFilter.builder().ownerId(40L).build())).isEmpty();
+    }
+
+    @Test
+    public void filterIntersectsWithMatchesOk() {
+        var found = index.search(List.of(2L, 4L, 5L), ItemSearchFilter.builder().hasRequest(true).build(), List.of(),
+                0, 10, 10);
+        assertThat(found.getIds()).containsExactly(2L, 4L);
+        assertThat(found.getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    public void excludedLeftOutOk() {
+        var found = index.search(null, ItemSearchFilter.builder().build(), List.of(1L, 3L, 5L), 0, 10, 10);
+        assertThat(found.getIds()).containsExactly(2L, 4L);
+        assertThat(found.getFacets().getOwners()).isEqualTo(Map.of(10L, 1L, 30L, 1L));
+    }
+
+    @Test
+    public void facetsOk() {
+        var facets = index.search(null, ItemSearchFilter.builder().build(), List.of(), 0, 0, 2).getFacets();
+        assertThat(facets.getWithRequest()).isEqualTo(3);
+        assertThat(facets.getWithoutRequest()).isEqualTo(1);
+        assertThat(facets.getOwners()).containsExactly(Map.entry(10L, 2L), Map.entry(20L, 1L));
+        assertThat(facets.getRequests()).containsExactly(Map.entry(100L, 2L), Map.entry(200L, 1L));
+    }
+
+    @Test
+    public void pageOk() {
+        assertThat(page(null, 1, 2)).containsExactly(2L, 3L);
+        assertThat(page(null, 4, 2)).isEmpty();
+        assertThat(page(List.of(), 0, 2)).isEmpty();
+    }
+
+    @Test
+    public void idsBeyondIntRangeOk() {
+        var largeId = Integer.MAX_VALUE + 10L;
+        index.put(new ItemIndexEntry(largeId, "Crane", "", 40L, null, FEBRUARY, null, null));
+        index.remove(2L);
+        index.put(new ItemIndexEntry(5L, "Ladder", "", 40L, null, FEBRUARY, null, null));
+
+        assertThat(page(null, 0, 10)).containsExactly(1L, 3L, 4L, 5L, largeId);
+        assertThat(page(null, 3, 10)).containsExactly(5L, largeId);
+        assertThat(page(List.of(largeId, 2L), 0, 10)).containsExactly(largeId);
+        assertThat(filter(ItemSearchFilter.builder().ownerId(40L).build())).containsExactly(5L, largeId);
+    }
+
+    @Test
+    public void updatedIncrementallyOk() {
+        index.put(new ItemIndexEntry(1L, "Drill", "", 20L, 200L, FEBRUARY, null, null));
+        index.onItemChanged(ItemChangedEvent.deleted(4L));
+
+        assertThat(filter(ItemSearchFilter.builder().ownerId(10L).build())).containsExactly(2L);
+        assertThat(filter(ItemSearchFilter.builder().requestId(200L).build())).containsExactly(1L);
+        assertThat(index.search(null, ItemSearchFilter.builder().build(), List.of(), 0, 10, 10)
+                .getFacets().getOwners()).isEqualTo(Map.of(10L, 1L, 20L, 2L));
+    }
+
+    private List<Long> filter(ItemSearchFilter filter) {
+        return index.search(null, filter, List.of(), 0, 100, 10).getIds();
+    }
+
+    private List<Long> page(List<Long> matches, long offset, int size) {
+        return index.search(matches, ItemSearchFilter.builder().build(), List.of(), offset, size, 10).getIds();
+    }
+}
@@ -0,0 +1,109 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.model.ItemIndexEntry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemFuzzyIndexTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private ItemFuzzyIndex index;
+
+    @AfterEach
+    public void tearDown() {
+        index.shutdown();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        index = new ItemFuzzyIndex(properties(3));
+        index.load(List.of(
+                new ItemIndexEntry(1L, "Power drill", "Cordless drill with two batteries", 1L, null, CREATED,
+                        null, null),
+                new ItemIndexEntry(2L, "Hammer", "Claw hammer", 1L, null, CREATED, null, null),
+                new ItemIndexEntry(3L, "Drill bits", "Set of wood bits", 1L, null, CREATED, null, null),
+                new ItemIndexEntry(4L, "Saw", "Hand saw for wood", 1L, null, CREATED, null, null)));
+    }
+
+    @Test
+    public void searchWithTyposOk() {
+        assertThat(index.search("hamer", 0, 10)).containsExactly(2L);
+        assertThat(index.search("dril", 0, 10)).containsExactly(1L, 3L);
+        assertThat(index.search("cordles drll", 0, 10)).containsExactly(1L);
+        assertThat(index.search("woood", 0, 10)).containsExactly(3L, 4L);
+    }
+
+    @Test
+    public void searchShortWordsExactOk() {
+        assertThat(index.search("saw", 0, 10)).containsExactly(4L);
+        assertThat(index.search("sew", 0, 10)).isEmpty();
+    }
+
+    @Test
+    public void searchRankedAndPagedOk() {
+        index.put(5L, "Drill", "Impact drill");
+        assertThat(index.search("drill", 0, 10)).containsExactly(1L, 3L, 5L);
+        assertThat(index.search("drll", 0, 10)).containsExactly(1L, 3L, 5L);
+        assertThat(index.search("drill", 1, 1)).containsExactly(3L);
+        assertThat(index.search("hammers", 0, 10)).containsExactly(2L);
+    }
+
+    @Test
+    public void shardedSearchMatchesSingleShardOk() {
+        var single = new ItemFuzzyIndex(properties(1));
+        var sharded = new ItemFuzzyIndex(properties(4));
+        var items = LongStream.rangeClosed(1, 50)
+                .mapToObj(id -> new ItemIndexEntry(id, (id % 3 == 0 ? "Drill " : "Dril ") + id, "tool",
+                        1L, null, CREATED, null, null))
+                .collect(Collectors.toList());
+        single.load(items);
+        sharded.load(items);
+        try {
+            for (int from = 0; from < 60; from += 7) {
+                assertThat(sharded.search("drill tool", from, 7)).isEqualTo(single.search("drill tool", from, 7));
+            }
+            assertThat(sharded.search("drill", 0, 3)).containsExactly(3L, 6L, 9L);
+        } finally {
+            sharded.shutdown();
+        }
+    }
+
+    @Test
+    public void containingOk() {
+        assertThat(index.containing("DRILL")).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.containing("ill b")).containsExactly(3L);
+        assertThat(index.containing("aw")).containsExactlyInAnyOrder(2L, 4L);
+        assertThat(index.containing("of wood")).containsExactly(3L);
+        assertThat(index.containing("wood drill")).isEmpty();
+        assertThat(index.containing("dril")).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.containing("hamer")).isEmpty();
+        assertThat(index.containing(" ")).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    public void updatedIncrementallyOk() {
+        index.onItemChanged(ItemChangedEvent.deleted(2L));
+        assertThat(index.search("hammer", 0, 10)).isEmpty();
+
+        index.put(4L, "Jigsaw", "Electric jigsaw");
+        assertThat(index.search("wood", 0, 10)).containsExactly(3L);
+        assertThat(index.search("jigsow", 0, 10)).containsExactly(4L);
+        assertThat(index.containing("saw")).containsExactly(4L);
+        assertThat(index.containing("hand")).isEmpty();
+    }
+
+    private static ItemSearchIndexProperties properties(int shards) {
+        var properties = new ItemSearchIndexProperties();
+        properties.setShards(shards);
+        return properties;
+    }
+}
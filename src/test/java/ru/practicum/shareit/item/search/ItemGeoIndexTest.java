@@ -0,0 +1,95 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.model.ItemIndexEntry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ItemGeoIndexTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private ItemGeoIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new ItemGeoIndex(properties(1000));
+        index.load(List.of(
+                entry(1L, 55.7558, 37.6173),
+                entry(2L, 55.7602, 37.6186),
+                entry(3L, 59.9343, 30.3351),
+                entry(4L, 0, 179.99),
+                entry(5L, 0, -179.99),
+                entry(6L, null, null)));
+    }
+
+    @Test
+    public void distanceOk() {
+        assertThat(ItemGeoIndex.distanceKm(55.7558, 37.6173, 59.9343, 30.3351)).isCloseTo(634, within(2.0));
+        assertThat(ItemGeoIndex.distanceKm(0, 179.99, 0, -179.99)).isCloseTo(2.2, within(0.1));
+    }
+
+    @Test
+    public void nearestOk() {
+        assertThat(index.nearest(55.7520, 37.6175, null, null, 10)).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(index.nearest(55.7520, 37.6175, 10.0, null, 10)).containsExactly(1L, 2L);
+        assertThat(index.nearest(55.7520, 37.6175, null, Set.of(2L, 3L), 1))
+                .containsExactly(2L);
+        assertThat(index.nearest(0, -179.999, 5.0, null, 10)).containsExactly(5L, 4L);
+    }
+
+    @Test
+    public void ringWalkMatchesFullScanOk() {
+        var random = new Random(42);
+        var items = LongStream.rangeClosed(1, 2000)
+                .mapToObj(id -> entry(id, 40 + random.nextDouble() * 30, -10 + random.nextDouble() * 60))
+                .collect(Collectors.toList());
+        var scan = new ItemGeoIndex(properties(Integer.MAX_VALUE));
+        var grid = new ItemGeoIndex(properties(0));
+        scan.load(items);
+        grid.load(items);
+        var matches = LongStream.rangeClosed(1, 2000)
+                .filter(id -> id % 3 != 0)
+                .boxed()
+                .collect(Collectors.toSet());
+        for (int i = 0; i < 20; i++) {
+            var latitude = 40 + random.nextDouble() * 30;
+            var longitude = -10 + random.nextDouble() * 60;
+            assertThat(grid.nearest(latitude, longitude, null, null, 15))
+                    .isEqualTo(scan.nearest(latitude, longitude, null, null, 15));
+            assertThat(grid.nearest(latitude, longitude, 150.0, matches, 100))
+                    .isEqualTo(scan.nearest(latitude, longitude, 150.0, matches, 100));
+        }
+    }
+
+    @Test
+    public void updatedIncrementallyOk() {
+        index.put(entry(3L, 55.7530, 37.6170));
+        index.onItemChanged(ItemChangedEvent.deleted(1L));
+
+        assertThat(index.nearest(55.7520, 37.6175, 10.0, null, 10)).containsExactly(3L, 2L);
+    }
+
+    private static ItemIndexEntry entry(long id, Double latitude, Double longitude) {
+        return new ItemIndexEntry(id, "item " + id, "", 1L, null, CREATED, latitude, longitude);
+    }
+
+    private static ItemIndexEntry entry(long id, double latitude, double longitude) {
+        return entry(id, Double.valueOf(latitude), Double.valueOf(longitude));
+    }
+
+    private static ItemSearchIndexProperties properties(int scanLimit) {
+        var properties = new ItemSearchIndexProperties();
+        properties.setGeoScanLimit(scanLimit);
+        return properties;
+    }
+}
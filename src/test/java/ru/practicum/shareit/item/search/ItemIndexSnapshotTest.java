@@ -0,0 +1,53 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.practicum.shareit.item.model.ItemIndexEntry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ItemIndexSnapshotTest {
+
+    private final List<ItemIndexEntry> items = List.of(
+            new ItemIndexEntry(1L, "Power drill", "Cordless drill", 3L, 5L, LocalDateTime.of(2024, 1, 2, 3, 4, 5),
+                    55.7558, 37.6173),
+            new ItemIndexEntry(7L, "Лестница", "", 4L, null, LocalDateTime.of(2024, 2, 3, 4, 5, 6, 7_000_000),
+                    null, null));
+
+    @Test
+    public void writeAndReadOk(@TempDir Path dir) throws IOException {
+        var path = dir.resolve("index/items.snapshot");
+        var createdAt = Instant.ofEpochMilli(1_700_000_000_000L);
+        ItemIndexSnapshot.write(path, createdAt, items.iterator());
+
+        var content = ItemIndexSnapshot.read(path);
+
+        assertThat(content.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(content.getItems()).isEqualTo(items);
+        try (var files = Files.list(path.getParent())) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    public void readCorruptedFails(@TempDir Path dir) throws IOException {
+        var path = dir.resolve("items.snapshot");
+        ItemIndexSnapshot.write(path, Instant.now(), items.iterator());
+        var bytes = Files.readAllBytes(path);
+        bytes[20] ^= 1;
+        Files.write(path, bytes);
+
+        assertThatThrownBy(() -> ItemIndexSnapshot.read(path)).isInstanceOf(IOException.class);
+
+        Files.write(path, new byte[] {1, 2, 3});
+        assertThatThrownBy(() -> ItemIndexSnapshot.read(path)).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.model.ItemIndexEntry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemNameIndexTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private ItemNameIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new ItemNameIndex();
+        index.load(List.of(
+                new ItemIndexEntry(1L, "Power drill", "", 1L, null, CREATED, null, null),
+                new ItemIndexEntry(2L, "Drill bits", "", 1L, null, CREATED, null, null),
+                new ItemIndexEntry(3L, "Ladder", "", 1L, null, CREATED, null, null),
+                new ItemIndexEntry(4L, "Drill bits", "", 1L, null, CREATED, null, null)));
+    }
+
+    @Test
+    public void suggestByWordPrefixOk() {
+        assertThat(index.suggest("dri", 10)).containsExactly("Power drill", "Drill bits");
+        assertThat(index.suggest("  DRILL B", 10)).containsExactly("Drill bits");
+        assertThat(index.suggest("bit", 10)).containsExactly("Drill bits");
+        assertThat(index.suggest("rill", 10)).isEmpty();
+        assertThat(index.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    public void suggestLimitOk() {
+        assertThat(index.suggest("d", 1)).containsExactly("Power drill");
+    }
+
+    @Test
+    public void updatedIncrementallyOk() {
+        index.onItemChanged(ItemChangedEvent.deleted(2L));
+        assertThat(index.suggest("drill b", 10)).containsExactly("Drill bits");
+
+        index.onItemChanged(ItemChangedEvent.deleted(4L));
+        assertThat(index.suggest("drill b", 10)).isEmpty();
+
+        index.put(3L, "Step ladder");
+        assertThat(index.suggest("la", 10)).containsExactly("Step ladder");
+        assertThat(index.suggest("st", 10)).containsExactly("Step ladder");
+
+        index.remove(1L);
+        assertThat(index.suggest("dri", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,76 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:search-index;MODE=PostgreSQL")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemSearchIndexLoaderTest {
+
+    private static final Path SNAPSHOT = createTempDirectory().resolve("items.snapshot");
+
+    private final ItemSearchIndexLoader loader;
+    private final ItemNameIndex itemNameIndex;
+    private final ItemFuzzyIndex itemFuzzyIndex;
+    private final ItemService itemService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void snapshotPath(DynamicPropertyRegistry registry) {
+        registry.add("shareit.item.search-index.snapshot-path", SNAPSHOT::toString);
+    }
+
+    @Test
+    public void loadFromSnapshotAndChangeLogOk() {
+        loader.snapshot();
+        assertThat(SNAPSHOT).exists();
+
+        itemService.update(1, ItemDto.builder().id(1L).name("Cordless screwdriver").build());
+        itemService.delete(1, 3L);
+        jdbcTemplate.update("update items set name = 'changed without the change log' where id = 2");
+        itemNameIndex.load(List.of());
+        itemFuzzyIndex.load(List.of());
+
+        loader.load();
+
+        assertThat(itemNameIndex.suggest("screw", 10)).containsExactly("Cordless screwdriver");
+        assertThat(itemNameIndex.suggest("item", 10)).containsExactly("item 2");
+        assertThat(itemNameIndex.suggest("texti", 10)).isEmpty();
+        assertThat(itemFuzzyIndex.search("screwdrivr", 0, 10)).containsExactly(1L);
+    }
+
+    @Test
+    public void loadWithoutSnapshotOk() throws IOException {
+        Files.deleteIfExists(SNAPSHOT);
+        itemNameIndex.load(List.of());
+
+        loader.load();
+
+        assertThat(itemNameIndex.suggest("item", 10)).containsExactly("item 2");
+    }
+
+    private static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("shareit-search-index");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:item-comment-stats;MODE=PostgreSQL")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemCommentStatsTest {
+
+    private static final String STATS = "select comment_count, reviewer_count from items where id = ?";
+
+    private final ItemService itemService;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final long ownerId = 1;
+    private final long itemId = 1;
+
+    @Test
+    public void updateKeepsStatsOfCommentMadeAfterItemWasReadOk() {
+        // the item lands in the second-level cache, then a comment changes its statistics
+        itemService.findById(ownerId, itemId);
+        jdbcTemplate.update("update items set comment_count = comment_count + 5, " +
+                "reviewer_count = reviewer_count + 3 where id = ?", itemId);
+        var expected = jdbcTemplate.queryForMap(STATS, itemId);
+
+        itemService.update(ownerId, ItemDto.builder().id(itemId).name("updated").build());
+
+        assertThat(jdbcTemplate.queryForMap(STATS, itemId), is(expected));
+        assertThat(jdbcTemplate.queryForObject("select name from items where id = ?", String.class, itemId),
+                is("updated"));
+    }
+
+    @Test
+    public void updateReturnsCurrentStatsOk() {
+        itemService.findById(ownerId, itemId);
+        jdbcTemplate.update("update items set comment_count = comment_count + 5 where id = ?", itemId);
+        var expected = jdbcTemplate.queryForObject("select comment_count from items where id = ?", Long.class,
+                itemId);
+
+        itemService.update(ownerId, ItemDto.builder().id(itemId).description("updated").build());
+
+        assertThat(itemService.findById(ownerId, itemId).getCommentCount(), is(expected));
+    }
+}
@@ -1,6 +1,7 @@
 package ru.practicum.shareit.item.service;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,16 +12,19 @@ import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingShort;
 import ru.practicum.shareit.exception.AccessDeniedException;
+import ru.practicum.shareit.exception.BadRequestException;
 import ru.practicum.shareit.exception.ErrorMessages;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.dto.CommentCreateDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemSearchFilter;
 import ru.practicum.shareit.item.mapper.CommentMapper;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.mapper.TestBookingMapper;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.Request;
+import ru.practicum.shareit.request.RequestMatch;
 import ru.practicum.shareit.util.PageRequestWithOffset;
 
 import javax.persistence.EntityManager;
@@ -28,7 +32,6 @@ import javax.persistence.NoResultException;
 import javax.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
@@ -267,6 +270,14 @@ class ItemServiceImplTest {
                 .findAny()
                 .get();
         var text = "Positive comment";
+        var commentCount = booking.getItem().getCommentCount();
+        var reviewerCount = booking.getItem().getReviewerCount();
+        var isNewReviewer = em.createQuery("select c from Comment c where c.item.id = :item and c.author.id = :author",
+                        Comment.class)
+                .setParameter("item", booking.getItem().getId())
+                .setParameter("author", booking.getBooker().getId())
+                .getResultList()
+                .isEmpty();
         var comment = itemService.createComment(booking.getBooker().getId(), booking.getItem().getId(),
                 CommentCreateDto.builder()
                         .text(text)
@@ -283,6 +294,59 @@ class ItemServiceImplTest {
         assertThat(result.getCreated(), equalTo(comment.getCreated()));
         assertThat(result.getItem().getId(), equalTo(booking.getItem().getId()));
         assertThat(result.getAuthor().getId(), equalTo(booking.getBooker().getId()));
+        assertThat(result.getItem().getCommentCount(), equalTo(commentCount + 1));
+        assertThat(result.getItem().getReviewerCount(), equalTo(isNewReviewer ? reviewerCount + 1 : reviewerCount));
+        assertThat(result.getItem().getLastCommentAt(), equalTo(comment.getCreated()));
+    }
+
+    @Test
+    public void getCommentsOk() {
+        var comments = em.createQuery("select c from Comment c where c.item.id = :id order by c.id desc",
+                        Comment.class)
+                .setParameter("id", itemIdSecond)
+                .getResultStream()
+                .map(commentMapper::toDto)
+                .collect(Collectors.toList());
+
+        var firstPage = itemService.getComments(itemIdSecond, null, 1);
+        var secondPage = itemService.getComments(itemIdSecond, firstPage.get(0).getId(), 10);
+
+        org.assertj.core.api.Assertions.assertThat(firstPage)
+                .usingRecursiveComparison()
+                .isEqualTo(comments.subList(0, 1));
+        org.assertj.core.api.Assertions.assertThat(secondPage)
+                .usingRecursiveComparison()
+                .isEqualTo(comments.subList(1, comments.size()));
+    }
+
+    @Test
+    public void getCommentsUnknownItemFail() {
+        var exception = assertThrows(NotFoundException.class,
+                () -> itemService.getComments(unknownItemId, null, 10));
+        assertThat(exception.getMessage(), equalTo(ErrorMessages.ITEM_NOT_FOUND.getFormatMessage(unknownItemId)));
+    }
+
+    @Test
+    public void getRequestMatchesOk() {
+        var first = em.find(Request.class, 1L);
+        var second = em.find(Request.class, 2L);
+        em.persist(new RequestMatch(itemWithoutBooking, first, 0.5));
+        em.persist(new RequestMatch(itemWithoutBooking, second, 1.5));
+
+        var matches = itemService.getRequestMatches(ownerId, itemWithoutBooking);
+
+        assertThat(matches, hasSize(2));
+        assertThat(matches.get(0).getRequestId(), equalTo(second.getId()));
+        assertThat(matches.get(0).getDescription(), equalTo(second.getDescription()));
+        assertThat(matches.get(0).getScore(), equalTo(1.5));
+        assertThat(matches.get(1).getRequestId(), equalTo(first.getId()));
+    }
+
+    @Test
+    public void getRequestMatchesNotOwnerFail() {
+        var exception = assertThrows(AccessDeniedException.class,
+                () -> itemService.getRequestMatches(userId, itemWithoutBooking));
+        assertThat(exception.getMessage(), equalTo(ErrorMessages.OWNER_REQUEST_MATCHES.getMessage()));
     }
 
     @Test
@@ -359,7 +423,8 @@ class ItemServiceImplTest {
                 .filter(b -> b.getStart().isAfter(getCurrentTime()))
                 .min(Comparator.comparing(b -> b.getStart().isBefore(getCurrentTime())))
                 .orElse(null);
-        var comments = em.createQuery("select c from Comment c where c.item.id = :id", Comment.class)
+        var comments = em.createQuery("select c from Comment c where c.item.id = :id order by c.id desc",
+                        Comment.class)
                 .setParameter("id", item.getId())
                 .getResultStream()
                 .map(commentMapper::toDto)
@@ -441,14 +506,9 @@ class ItemServiceImplTest {
                 nextBookings.putIfAbsent(booking.getItemId(), booking);
             }
         }
-        var comments = em.createQuery("select c from Comment c where c.item.id in :id", Comment.class)
-                .setParameter("id", itemsId)
-                .getResultStream()
-                .collect(Collectors.groupingBy(c -> c.getItem().getId(),
-                        Collectors.mapping(commentMapper::toDto, Collectors.toList())));
         var comparedItems = items.stream()
                 .map(item -> itemMapper.toItemWithBookingsDto(item, lastBookings.get(item.getId()),
-                        nextBookings.get(item.getId()), comments.getOrDefault(item.getId(), Collections.emptyList())))
+                        nextBookings.get(item.getId()), null))
                 .collect(Collectors.toList());
         Pageable pageable = PageRequestWithOffset.of(from, size, Sort.by("id"));
         var result = itemService.getAll(ownerId, pageable);
@@ -457,6 +517,102 @@ class ItemServiceImplTest {
                 .isEqualTo(comparedItems);
     }
 
+    @Test
+    public void getAllLoadsItemsReadOnlyOk() {
+        em.clear();
+
+        var result = itemService.getAll(ownerId, PageRequestWithOffset.of(0, 10, Sort.by("id")));
+
+        assertThat(result, hasSize(4));
+        var session = em.unwrap(Session.class);
+        assertThat(session.isReadOnly(em.find(Item.class, itemIdSecond)), equalTo(true));
+    }
+
+    @Test
+    public void facetedSearchOk() {
+        var pageable = PageRequestWithOffset.of(0, 10);
+        var all = itemService.facetedSearch("item", new ItemSearchFilter(), pageable, 10);
+        assertThat(all.getItems().stream().map(ItemDto::getId).collect(Collectors.toList()), contains(1L, 2L, 3L));
+        assertThat(all.getTotal(), equalTo(3L));
+        assertThat(all.getFacets().getWithRequest(), equalTo(3L));
+        assertThat(all.getFacets().getOwners(), equalTo(Map.of(1L, 3L)));
+        assertThat(all.getFacets().getRequests(), equalTo(Map.of(2L, 3L)));
+
+        var dayAgo = LocalDateTime.now().minusDays(1);
+        var free = itemService.facetedSearch("", ItemSearchFilter.builder()
+                .freeFrom(dayAgo)
+                .freeTo(dayAgo.plusMinutes(1))
+                .build(), pageable, 10);
+        assertThat(free.getItems().stream().map(ItemDto::getId).collect(Collectors.toList()), contains(2L));
+
+        var second = itemService.facetedSearch("", ItemSearchFilter.builder().ownerId(1L).build(),
+                PageRequestWithOffset.of(1, 1), 10);
+        assertThat(second.getItems().stream().map(ItemDto::getId).collect(Collectors.toList()), contains(2L));
+        assertThat(second.getTotal(), equalTo(3L));
+
+        var none = itemService.facetedSearch("item", ItemSearchFilter.builder().hasRequest(false).build(),
+                pageable, 10);
+        assertThat(none.getItems(), empty());
+        assertThat(none.getFacets().getWithoutRequest(), equalTo(0L));
+    }
+
+    @Test
+    public void facetedSearchInvalidFreeRangeFail() {
+        var filter = ItemSearchFilter.builder().freeFrom(LocalDateTime.now()).build();
+        var exception = assertThrows(BadRequestException.class,
+                () -> itemService.facetedSearch("", filter, PageRequestWithOffset.of(0, 10), 10));
+        assertThat(exception.getMessage(), equalTo(ErrorMessages.INVALID_FREE_RANGE.getMessage()));
+        assertThat(exception.getStackTrace(), emptyArray());
+    }
+
+    @Test
+    public void nearbySearchOk() {
+        var pageable = PageRequestWithOffset.of(0, 10);
+        assertThat(itemService.nearbySearch(null, "", 55.7520, 37.6175, null, pageable).stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList()), contains(1L, 2L, 3L));
+        assertThat(itemService.nearbySearch(null, "", 55.7520, 37.6175, 10.0, pageable).stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList()), contains(1L, 2L));
+        assertThat(itemService.nearbySearch(2L, "description 3", null, null, null, pageable).stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList()), contains(3L));
+        assertThat(itemService.nearbySearch(2L, "", null, null, null, PageRequestWithOffset.of(1, 1)).stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList()), contains(2L));
+    }
+
+    @Test
+    public void nearbySearchWithoutLocationFail() {
+        var pageable = PageRequestWithOffset.of(0, 10);
+        var exception = assertThrows(BadRequestException.class,
+                () -> itemService.nearbySearch(ownerId, "", null, null, null, pageable));
+        assertThat(exception.getMessage(), equalTo(ErrorMessages.LOCATION_REQUIRED.getMessage()));
+        exception = assertThrows(BadRequestException.class,
+                () -> itemService.nearbySearch(null, "", 55.0, null, null, pageable));
+        assertThat(exception.getMessage(), equalTo(ErrorMessages.INVALID_LOCATION.getMessage()));
+    }
+
+    @Test
+    public void createWithHalfLocationFail() {
+        itemCreateDto.setLatitude(55.0);
+        var exception = assertThrows(BadRequestException.class, () -> itemService.create(ownerId, itemCreateDto));
+        assertThat(exception.getMessage(), equalTo(ErrorMessages.INVALID_LOCATION.getMessage()));
+    }
+
+    @Test
+    public void fuzzySearchOk() {
+        var result = itemService.fuzzySearch("descripton", PageRequestWithOffset.of(0, 10));
+        assertThat(result.stream().map(ItemDto::getId).collect(Collectors.toList()), contains(1L, 3L));
+        assertThat(itemService.fuzzySearch("unknwn", PageRequestWithOffset.of(0, 10)), empty());
+    }
+
+    @Test
+    public void suggestOk() {
+        assertThat(itemService.suggest("ITE", 10), contains("item 2", "iTEXTtem 1"));
+        assertThat(itemService.suggest("ite", 1), contains("item 2"));
+    }
+
     @Test
     public void searchOk() {
         var text = "text";
@@ -0,0 +1,40 @@
+package ru.practicum.shareit.item.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:item-stats;MODE=PostgreSQL",
+        "shareit.item.stats-rebuild.enabled=true",
+        "shareit.item.stats-rebuild.chunk-size=1",
+        "shareit.item.stats-rebuild.parallelism=2"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemStatsRebuildJobTest {
+
+    private static final String STATS = "select id, comment_count, reviewer_count, last_comment_at " +
+            "from items order by id";
+
+    private final ItemStatsRebuildJob itemStatsRebuildJob;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void rebuildOk() {
+        List<Map<String, Object>> expected = jdbcTemplate.queryForList(STATS);
+        assertThat(expected).anyMatch(row -> ((Number) row.get("comment_count")).longValue() > 0);
+
+        jdbcTemplate.update("update items set comment_count = 0, reviewer_count = 0, last_comment_at = null");
+        itemStatsRebuildJob.rebuild();
+
+        assertThat(jdbcTemplate.queryForList(STATS)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,80 @@
+package ru.practicum.shareit.loadshedding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void tryAcquireShedsLowerSharesFirstOk() {
+        var limit = new AdaptiveConcurrencyLimit(properties(10, 10, 10));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limit.tryAcquire(EndpointGroup.SEARCH)).isTrue();
+        }
+        assertThat(limit.tryAcquire(EndpointGroup.SEARCH)).isFalse();
+        for (int i = 0; i < 3; i++) {
+            assertThat(limit.tryAcquire(EndpointGroup.ITEM_READS)).isTrue();
+        }
+        assertThat(limit.tryAcquire(EndpointGroup.ITEM_READS)).isFalse();
+        assertThat(limit.tryAcquire(EndpointGroup.DEFAULT)).isTrue();
+        assertThat(limit.tryAcquire(EndpointGroup.DEFAULT)).isFalse();
+        assertThat(limit.tryAcquire(EndpointGroup.BOOKING_WRITES)).isTrue();
+        assertThat(limit.tryAcquire(EndpointGroup.BOOKING_WRITES)).isFalse();
+        assertThat(limit.getInFlight()).isEqualTo(10);
+
+        limit.release(RTT);
+
+        assertThat(limit.getInFlight()).isEqualTo(9);
+        assertThat(limit.tryAcquire(EndpointGroup.BOOKING_WRITES)).isTrue();
+    }
+
+    @Test
+    void onSampleGrowsLimitWhileLatencyIsSteadyOk() {
+        var limit = new AdaptiveConcurrencyLimit(properties(20, 4, 200));
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT, limit.getLimit());
+        }
+
+        assertThat(limit.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    void onSampleShrinksLimitWhenLatencyRisesOk() {
+        var limit = new AdaptiveConcurrencyLimit(properties(100, 4, 200));
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(RTT, 0);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT * 5, limit.getLimit());
+        }
+
+        assertThat(limit.getLimit()).isLessThan(20).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    void onSampleKeepsLimitWhenMostlyUnusedOk() {
+        var limit = new AdaptiveConcurrencyLimit(properties(20, 4, 200));
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(i % 2 == 0 ? RTT : RTT * 5, 3);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    static LoadSheddingProperties properties(int initialLimit, int minLimit, int maxLimit) {
+        var properties = new LoadSheddingProperties();
+        properties.setInitialLimit(initialLimit);
+        properties.setMinLimit(minLimit);
+        properties.setMaxLimit(maxLimit);
+        return properties;
+    }
+}
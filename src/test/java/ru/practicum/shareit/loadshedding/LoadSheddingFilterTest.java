@@ -0,0 +1,65 @@
+package ru.practicum.shareit.loadshedding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ru.practicum.shareit.exception.ErrorMessages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadSheddingFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyLimit limit =
+            new AdaptiveConcurrencyLimit(AdaptiveConcurrencyLimitTest.properties(4, 4, 4));
+    private final LoadSheddingFilter filter = new LoadSheddingFilter(limit, registry, new ObjectMapper());
+
+    @Test
+    void doFilterShedsSearchBeforeBookingWritesOk() throws Exception {
+        limit.tryAcquire(EndpointGroup.BOOKING_WRITES);
+        limit.tryAcquire(EndpointGroup.BOOKING_WRITES);
+
+        var search = send("GET", "/items/search");
+
+        assertThat(search.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(search.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(search.getContentAsString()).contains(ErrorMessages.SERVICE_OVERLOADED.getMessage());
+        assertThat(registry.get("shareit.load.shedding.rejections").tag("group", "search").counter().count())
+                .isEqualTo(1);
+        assertThat(send("POST", "/bookings").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(send("PATCH", "/bookings/1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(limit.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void doFilterSkipsActuatorOk() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            limit.tryAcquire(EndpointGroup.BOOKING_WRITES);
+        }
+
+        assertThat(send("GET", "/actuator/health").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(send("GET", "/items/1").getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
+
+    @Test
+    void ofMapsRequestsToGroupsOk() {
+        assertThat(EndpointGroup.of("POST", "/bookings")).isEqualTo(EndpointGroup.BOOKING_WRITES);
+        assertThat(EndpointGroup.of("PATCH", "/bookings/5")).isEqualTo(EndpointGroup.BOOKING_WRITES);
+        assertThat(EndpointGroup.of("GET", "/bookings/owner")).isEqualTo(EndpointGroup.DEFAULT);
+        assertThat(EndpointGroup.of("GET", "/items/search/faceted")).isEqualTo(EndpointGroup.SEARCH);
+        assertThat(EndpointGroup.of("GET", "/items/suggest")).isEqualTo(EndpointGroup.SEARCH);
+        assertThat(EndpointGroup.of("GET", "/items/3")).isEqualTo(EndpointGroup.ITEM_READS);
+        assertThat(EndpointGroup.of("POST", "/items")).isEqualTo(EndpointGroup.DEFAULT);
+        assertThat(EndpointGroup.of("GET", "/users")).isEqualTo(EndpointGroup.DEFAULT);
+    }
+
+    private MockHttpServletResponse send(String method, String path) throws Exception {
+        var response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, path), response, new MockFilterChain());
+        return response;
+    }
+}
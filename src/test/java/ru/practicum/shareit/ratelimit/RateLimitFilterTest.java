@@ -0,0 +1,86 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ru.practicum.shareit.exception.ErrorMessages;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong();
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    public void setUp() {
+        var properties = new RateLimitProperties();
+        properties.setPaths(List.of("/items/search", "/bookings"));
+        properties.setCapacity(2);
+        properties.setRefillPerSecond(0.5);
+        properties.setExpireAfterAccess(Duration.ofMinutes(1));
+        filter = new RateLimitFilter(properties, registry, new ObjectMapper(), now::get);
+    }
+
+    @Test
+    void doFilterRejectsOverCapacityOk() throws Exception {
+        assertThat(send("/bookings", "1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(send("/bookings/owner", "1").getStatus()).isEqualTo(HttpStatus.OK.value());
+
+        var response = send("/bookings/5", "1");
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains(ErrorMessages.TOO_MANY_REQUESTS.getMessage());
+        assertThat(registry.get("shareit.rate.limit.rejections").tag("endpoint", "/bookings").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void doFilterAllowsAfterRefillOk() throws Exception {
+        send("/items/search", "1");
+        send("/items/search", "1");
+        assertThat(send("/items/search", "1").getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        assertThat(send("/items/search", "1").getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void doFilterKeepsBucketPerUserAndEndpointOk() throws Exception {
+        send("/items/search", "1");
+        send("/items/search", "1");
+
+        assertThat(send("/items/search", "2").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(send("/bookings", "1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(send("/items/search", "1").getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    void doFilterSkipsOtherPathsOk() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertThat(send("/items/searches", "1").getStatus()).isEqualTo(HttpStatus.OK.value());
+            assertThat(send("/items", "1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+    }
+
+    private MockHttpServletResponse send(String path, String userId) throws Exception {
+        var request = new MockHttpServletRequest("GET", path);
+        request.addHeader("X-Sharer-User-Id", userId);
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long INTERVAL = 100;
+
+    @Test
+    void tryTakeAllowsCapacityThenWaitsForRefillOk() {
+        var bucket = new TokenBucket(3, INTERVAL, 1_000);
+
+        assertThat(bucket.tryTake(1_000)).isZero();
+        assertThat(bucket.tryTake(1_000)).isZero();
+        assertThat(bucket.tryTake(1_000)).isZero();
+        assertThat(bucket.tryTake(1_000)).isEqualTo(INTERVAL);
+        assertThat(bucket.tryTake(1_040)).isEqualTo(60);
+        assertThat(bucket.tryTake(1_100)).isZero();
+        assertThat(bucket.tryTake(1_100)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void tryTakeDoesNotStoreMoreThanCapacityOk() {
+        var bucket = new TokenBucket(2, INTERVAL, 0);
+
+        assertThat(bucket.tryTake(10_000)).isZero();
+        assertThat(bucket.tryTake(10_000)).isZero();
+        assertThat(bucket.tryTake(10_000)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void tryTakeConcurrentlyGivesOutCapacityOnceOk() throws Exception {
+        var capacity = 1_000;
+        var bucket = new TokenBucket(capacity, INTERVAL, 0);
+        var taken = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var tasks = new ArrayList<Callable<Void>>();
+            for (int i = 0; i < 8; i++) {
+                tasks.add(() -> {
+                    for (int j = 0; j < capacity; j++) {
+                        if (bucket.tryTake(0) == 0) {
+                            taken.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(taken.get()).isEqualTo(capacity);
+    }
+}
@@ -192,7 +192,7 @@ class RequestControllerTest {
         var mockRequest = MockMvcRequestBuilders.get(String.format("/requests/all?from=%d&size=%d", from, size))
                 .contentType(MediaType.APPLICATION_JSON)
                 .header(USER_ID_HEADER, userId);
-        Pageable pageable = PageRequestWithOffset.of(from, size, Sort.by("created").descending());
+        Pageable pageable = PageRequestWithOffset.of(from, size, Sort.by("created", "id").descending());
         when(requestService.findAll(userId, pageable))
                 .thenReturn(answer);
         mockMvc.perform(mockRequest)
@@ -203,6 +203,40 @@ class RequestControllerTest {
                 .andExpect(jsonPath("$[0].items", hasSize(answer.get(0).getItems().size())));
     }
 
+    @Test
+    void getAllWithCursorOk() throws Exception {
+        var userId = 1L;
+        var beforeCreated = LocalDateTime.of(2024, 1, 1, 12, 0, 30);
+        var answer = List.of(
+                RequestWithItemsDto.builder()
+                        .id(1L)
+                        .description("request description")
+                        .created(beforeCreated.minusHours(1))
+                        .items(Collections.emptyList())
+                        .build()
+        );
+        var mockRequest = MockMvcRequestBuilders.get("/requests/all")
+                .param("beforeCreated", "2024-01-01T12:00:30")
+                .param("beforeId", "5")
+                .param("size", "10")
+                .header(USER_ID_HEADER, userId);
+        when(requestService.findFeed(userId, beforeCreated, 5L, 10))
+                .thenReturn(answer);
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(answer.get(0).getId()), Long.class));
+    }
+
+    @Test
+    void getAllWithHalfCursorFail() throws Exception {
+        var mockRequest = MockMvcRequestBuilders.get("/requests/all")
+                .param("beforeId", "5")
+                .header(USER_ID_HEADER, 1L);
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is(ErrorMessages.INVALID_FEED_CURSOR.getMessage())));
+    }
+
     @Test
     void getAllEmptyUserIdHeaderFail() throws Exception {
         var mockRequest = MockMvcRequestBuilders.get("/requests/all")
@@ -0,0 +1,63 @@
+package ru.practicum.shareit.request.matching;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestMatchIndexTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime OPEN_FROM = CREATED.minusDays(30);
+
+    private RequestMatchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new RequestMatchIndex();
+        index.put(1, 10, "Need a cordless drill for the weekend", CREATED);
+        index.put(2, 10, "Looking for a ladder and a drill", CREATED);
+        index.put(3, 20, "Any tent for a camping trip", CREATED);
+        index.put(4, 20, "Drill drill drill, any drill with bits", CREATED);
+    }
+
+    @Test
+    public void matchRanksRareWordsHigherOk() {
+        assertThat(ids(index.match("Cordless drill, two batteries", 30, OPEN_FROM, 10))).containsExactly(1L, 4L, 2L);
+        assertThat(ids(index.match("Camping tent", 30, OPEN_FROM, 10))).containsExactly(3L);
+        assertThat(index.match("Hammer", 30, OPEN_FROM, 10)).isEmpty();
+        assertThat(index.match("a an", 30, OPEN_FROM, 10)).isEmpty();
+    }
+
+    @Test
+    public void matchLimitOk() {
+        assertThat(ids(index.match("cordless drill", 30, OPEN_FROM, 1))).containsExactly(1L);
+    }
+
+    @Test
+    public void matchSkipsOwnAndOldRequestsOk() {
+        assertThat(ids(index.match("cordless drill", 10, OPEN_FROM, 10))).containsExactly(4L);
+        index.put(5, 20, "Cordless drill", OPEN_FROM.minusDays(1));
+        assertThat(ids(index.match("cordless drill", 10, OPEN_FROM, 10))).containsExactly(4L);
+    }
+
+    @Test
+    public void removeOk() {
+        index.remove(1);
+        assertThat(ids(index.match("cordless", 30, OPEN_FROM, 10))).isEmpty();
+
+        index.put(6, 20, "Old request", OPEN_FROM.minusDays(1));
+        assertThat(index.removeCreatedBefore(OPEN_FROM)).isEqualTo(1);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    private static List<Long> ids(List<RequestMatchIndex.Match> matches) {
+        return matches.stream()
+                .map(RequestMatchIndex.Match::getRequestId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,106 @@
+package ru.practicum.shareit.request.matching;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.RequestCreateDto;
+import ru.practicum.shareit.request.dto.RequestMatchDto;
+import ru.practicum.shareit.request.service.RequestService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:request-matching;MODE=PostgreSQL")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class RequestMatcherTest {
+
+    private final RequestService requestService;
+    private final ItemService itemService;
+    private final RequestMatchIndex requestMatchIndex;
+    private final RequestMatcher requestMatcher;
+    private final RequestMatchingProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final long ownerId = 1;
+    private final long requesterId = 3;
+
+    @Test
+    public void matchesFoundAfterItemCreatedOk() throws InterruptedException {
+        assertThat(requestMatchIndex.size()).isEqualTo(2);
+        var drill = requestService.create(requesterId, new RequestCreateDto("Need a cordless drill for the weekend"));
+        var tent = requestService.create(requesterId, new RequestCreateDto("Any tent for a camping trip"));
+        requestService.create(ownerId, new RequestCreateDto("My own cordless drill request"));
+
+        var item = itemService.create(ownerId, ItemDto.builder()
+                .name("Cordless drill")
+                .description("Drill with two batteries")
+                .available(true)
+                .build());
+
+        var matches = awaitMatches(item.getId(), List.of(drill.getId()));
+        assertThat(ids(matches)).containsExactly(drill.getId());
+        assertThat(matches.get(0).getDescription()).isEqualTo("Need a cordless drill for the weekend");
+
+        itemService.update(ownerId, ItemDto.builder().id(item.getId()).name("Camping tent").description("Tent").build());
+        assertThat(ids(awaitMatches(item.getId(), List.of(tent.getId())))).containsExactly(tent.getId());
+    }
+
+    @Test
+    public void deletedRequestSkippedOk() throws InterruptedException {
+        var deleted = requestService.create(requesterId, new RequestCreateDto("Need a cordless drill"));
+        var kept = requestService.create(requesterId, new RequestCreateDto("Looking for a cordless drill"));
+        // still in the index, as if deleted while the item is matched
+        jdbcTemplate.update("delete from requests where id = ?", deleted.getId());
+
+        var item = itemService.create(ownerId, ItemDto.builder()
+                .name("Cordless drill")
+                .description("Drill with two batteries")
+                .available(true)
+                .build());
+
+        assertThat(ids(awaitMatches(item.getId(), List.of(kept.getId())))).containsExactly(kept.getId());
+    }
+
+    @Test
+    public void pruneDeletesMatchesOfClosedRequestsOk() throws InterruptedException {
+        var closed = requestService.create(requesterId, new RequestCreateDto("Need a cordless drill"));
+        var open = requestService.create(requesterId, new RequestCreateDto("Looking for a cordless drill"));
+        var item = itemService.create(ownerId, ItemDto.builder()
+                .name("Cordless drill")
+                .description("Drill with two batteries")
+                .available(true)
+                .build());
+        assertThat(ids(awaitMatches(item.getId(), List.of(open.getId(), closed.getId()))))
+                .containsExactlyInAnyOrder(closed.getId(), open.getId());
+        jdbcTemplate.update("update requests set created = ? where id = ?",
+                LocalDateTime.now().minus(properties.getOpenFor()).minusDays(1), closed.getId());
+
+        requestMatcher.prune();
+
+        assertThat(ids(itemService.getRequestMatches(ownerId, item.getId()))).containsExactly(open.getId());
+    }
+
+    private List<RequestMatchDto> awaitMatches(long itemId, List<Long> expected) throws InterruptedException {
+        var matches = itemService.getRequestMatches(ownerId, itemId);
+        for (int i = 0; i < 50 && !ids(matches).equals(expected); i++) {
+            Thread.sleep(100);
+            matches = itemService.getRequestMatches(ownerId, itemId);
+        }
+        return matches;
+    }
+
+    private static List<Long> ids(List<RequestMatchDto> matches) {
+        return matches.stream()
+                .map(RequestMatchDto::getRequestId)
+                .collect(Collectors.toList());
+    }
+}
@@ -1,6 +1,7 @@
 package ru.practicum.shareit.request.service;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -9,6 +10,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.exception.ErrorMessages;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemWithRequestDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.Request;
@@ -23,6 +25,7 @@ import java.util.Comparator;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -193,6 +196,37 @@ class RequestServiceImplTest {
                 .isEqualTo(requestWithItemsDto);
     }
 
+    @Test
+    void findFeedOk() {
+        Pageable pageable = PageRequestWithOffset.of(0, 1, Sort.by("created", "id").descending());
+        var firstPage = requestService.findAll(ownerId, pageable);
+
+        assertThat(firstPage, hasSize(1));
+        var newest = firstPage.get(0);
+        assertThat(newest.getId(), equalTo(requestWithItemsId));
+        assertThat(newest.getItems().stream().map(ItemWithRequestDto::getId).collect(Collectors.toList()),
+                contains(1L, 2L, 3L));
+
+        var secondPage = requestService.findFeed(ownerId, newest.getCreated(), newest.getId(), 10);
+
+        assertThat(secondPage, hasSize(1));
+        assertThat(secondPage.get(0).getId(), equalTo(requestWithoutItemsId));
+        assertThat(secondPage.get(0).getItems(), hasSize(0));
+        assertThat(requestService.findFeed(bookerId, newest.getCreated(), newest.getId(), 10), hasSize(0));
+    }
+
+    @Test
+    void findAllLoadsRequestsReadOnlyOk() {
+        em.clear();
+        Pageable pageable = PageRequestWithOffset.of(1, 1, Sort.by("created", "id").descending());
+
+        var result = requestService.findAll(ownerId, pageable);
+
+        assertThat(result, hasSize(1));
+        var session = em.unwrap(Session.class);
+        assertThat(session.isReadOnly(em.find(Request.class, result.get(0).getId())), equalTo(true));
+    }
+
     @Test
     void findAllWithoutUserFail() {
         var from = 0;
@@ -0,0 +1,118 @@
+package ru.practicum.shareit.singleflight;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.Request;
+import ru.practicum.shareit.request.mapper.RequestMapper;
+import ru.practicum.shareit.request.service.RequestService;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:single-flight-users;MODE=PostgreSQL")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class SingleFlightAcrossUsersTest {
+
+    private final ItemService itemService;
+    private final RequestService requestService;
+    private final MeterRegistry registry;
+
+    @SpyBean
+    private ItemMapper itemMapper;
+
+    @SpyBean
+    private RequestMapper requestMapper;
+
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void findItemByDifferentUsersCoalescedOk() throws Exception {
+        doAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(itemMapper).toItemWithBookingsDto(any(Item.class), anyList());
+
+        var first = executor.submit(() -> itemService.findById(2L, 1L));
+        assertThat(entered.await(5, TimeUnit.SECONDS), is(true));
+        var second = executor.submit(() -> itemService.findById(3L, 1L));
+        awaitCoalesced("ItemReader.findById");
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS), sameInstance(second.get(5, TimeUnit.SECONDS)));
+        verify(itemMapper, times(1)).toItemWithBookingsDto(any(Item.class), anyList());
+    }
+
+    @Test
+    public void findItemByOwnerGetsBookingsOk() {
+        var item = itemService.findById(1L, 3L);
+
+        assertThat(item.getLastBooking(), notNullValue());
+        assertThat(itemService.findById(2L, 3L).getLastBooking(), nullValue());
+    }
+
+    @Test
+    public void findRequestByDifferentUsersCoalescedOk() throws Exception {
+        doAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(requestMapper).toRequestWithItemsDto(any(Request.class), anyList());
+
+        var first = executor.submit(() -> requestService.findById(1L, 2L));
+        assertThat(entered.await(5, TimeUnit.SECONDS), is(true));
+        var second = executor.submit(() -> requestService.findById(3L, 2L));
+        awaitCoalesced("RequestReader.findById");
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS), sameInstance(second.get(5, TimeUnit.SECONDS)));
+        verify(requestMapper, times(1)).toRequestWithItemsDto(any(Request.class), anyList());
+    }
+
+    /**
+     * Waits until the second call joins the running one, before that one is let go.
+     */
+    private void awaitCoalesced(String method) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced(method) < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(coalesced(method), is(1.0));
+    }
+
+    private double coalesced(String method) {
+        var counter = registry.find("shareit.single.flight.calls")
+                .tag("method", method)
+                .tag("result", "coalesced")
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,112 @@
+package ru.practicum.shareit.singleflight;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightAspectTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger executions = new AtomicInteger();
+    private ExecutorService executor;
+    private Reader reader;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(CALLERS);
+        var factory = new AspectJProxyFactory(new Reader(release, executions));
+        factory.addAspect(new SingleFlightAspect(registry));
+        reader = factory.getProxy();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void concurrentCallsShareOneExecutionOk() throws Exception {
+        var calls = callConcurrently(() -> reader.read(1));
+
+        for (var call : calls) {
+            assertThat(call.get(5, TimeUnit.SECONDS)).isEqualTo("value 1");
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(count("executed")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(CALLERS - 1);
+
+        assertThat(reader.read(2)).isEqualTo("value 2");
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void concurrentCallsShareExceptionOk() throws Exception {
+        var calls = callConcurrently(() -> reader.read(-1));
+
+        for (var call : calls) {
+            assertThatThrownBy(() -> call.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    private List<Future<String>> callConcurrently(Callable<String> call)
+            throws InterruptedException {
+        List<Future<String>> calls = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            calls.add(executor.submit(call));
+        }
+        // the first call blocks in the method until every other call has joined it
+        while (count("executed") + count("coalesced") < CALLERS) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+        return calls;
+    }
+
+    private double count(String result) {
+        var counter = registry.find("shareit.single.flight.calls").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    public static class Reader {
+
+        private final CountDownLatch release;
+        private final AtomicInteger executions;
+
+        public Reader(CountDownLatch release, AtomicInteger executions) {
+            this.release = release;
+            this.executions = executions;
+        }
+
+        @SingleFlight
+        public String read(int id) throws InterruptedException {
+            executions.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            if (id < 0) {
+                throw new IllegalArgumentException("negative id");
+            }
+            return "value " + id;
+        }
+    }
+}
@@ -9,6 +9,8 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.exception.ErrorMessages;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
@@ -20,6 +22,7 @@ import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Transactional
@@ -28,12 +31,14 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 class UserServiceImplTest {
 
     private final UserService userService;
+    private final ItemService itemService;
     private final UserMapper userMapper;
     private final EntityManager em;
 
     private UserDto userDto;
 
     private final long ownerId = 1;
+    private final long bookerId = 2;
     private final long userId = 3;
     private final long unknownUserId = 100;
 
@@ -165,4 +170,39 @@ class UserServiceImplTest {
         assertThrows(NoResultException.class, () -> query.setParameter("id", userId).getSingleResult());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    public void deleteEvictsCachedItemsOk() {
+        var item = em.createQuery("select i from Item i where i.owner.id = :id", Item.class)
+                .setParameter("id", ownerId)
+                .getResultStream()
+                .findAny()
+                .get();
+        em.clear();
+        itemService.findById(ownerId, item.getId());
+
+        userService.delete(ownerId);
+        em.clear();
+
+        var exception = assertThrows(NotFoundException.class, () -> itemService.findById(userId, item.getId()));
+        assertThat(exception.getMessage(), equalTo(ErrorMessages.ITEM_NOT_FOUND.getFormatMessage(item.getId())));
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    public void deleteUpdatesCommentCountOk() {
+        var commented = em.createQuery("select distinct c.item from Comment c where c.author.id = :id", Item.class)
+                .setParameter("id", bookerId)
+                .getResultList();
+        em.clear();
+
+        userService.delete(bookerId);
+        em.clear();
+
+        for (var item : commented) {
+            var result = em.find(Item.class, item.getId());
+            assertThat(result.getCommentCount(), equalTo(0L));
+            assertThat(result.getLastCommentAt(), nullValue());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package ru.practicum.shareit.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InListsTest {
+
+    @Test
+    public void padToPowerOfTwoOk() {
+        assertThat(InLists.pad(List.of(1L))).containsExactly(1L);
+        assertThat(InLists.pad(List.of(1L, 2L))).containsExactly(1L, 2L);
+        assertThat(InLists.pad(List.of(1L, 2L, 3L))).containsExactly(1L, 2L, 3L, 3L);
+        assertThat(InLists.pad(List.of(1L, 2L, 3L, 4L, 5L))).hasSize(8).endsWith(5L, 5L, 5L, 5L);
+    }
+
+    @Test
+    public void findAllInChunksOk() {
+        var ids = LongStream.rangeClosed(1, 10).boxed().collect(Collectors.toList());
+        ids.add(3L);
+        List<List<Long>> chunks = new ArrayList<>();
+
+        var result = InLists.findAll(ids, 4, chunk -> {
+            chunks.add(chunk);
+            return chunk.stream().distinct().map(id -> id * 10).collect(Collectors.toList());
+        });
+
+        assertThat(result).containsExactly(10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L, 90L, 100L);
+        assertThat(chunks).extracting(List::size).containsExactly(4, 4, 2);
+    }
+
+    @Test
+    public void findAllEmptyWithoutQueryOk() {
+        assertThat(InLists.findAll(List.<Long>of(), chunk -> {
+            throw new AssertionError("queried");
+        })).isEmpty();
+    }
+}
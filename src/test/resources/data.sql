@@ -18,6 +18,11 @@ VALUES (1, 2, 'iTEXTtem 1', 'item description 1', true),
        (1, 2, 'texTitem 3', 'item description 3Text', true),
        (1, null, 'item 4', 'item description 4', false);
 
+UPDATE items SET latitude = 55.7558, longitude = 37.6173 WHERE id = 1;
+UPDATE items SET latitude = 55.7602, longitude = 37.6186 WHERE id = 2;
+UPDATE items SET latitude = 59.9343, longitude = 30.3351 WHERE id = 3;
+UPDATE users SET latitude = 55.7520, longitude = 37.6175 WHERE id = 2;
+
 INSERT INTO booking (booker_id, item_id, status, start_booking, end_booking)
 VALUES (2, 1, 'WAITING', current_timestamp - interval '1' day - interval '30' minute, current_timestamp - interval '1' day + interval '30' minute),
        (2, 2, 'REJECTED', current_timestamp - interval '1' day - interval '29' minute, current_timestamp - interval '1' day + interval '31' minute),
@@ -34,4 +39,9 @@ VALUES (2, 1, 'WAITING', current_timestamp - interval '1' day - interval '30' mi
 INSERT INTO comments (author_id, item_id, text, created)
 VALUES (2, 2, 'Positive comment', current_timestamp - interval '9' hour),
        (2, 2, 'Negative comment', current_timestamp - interval '8' hour),
-       (2, 1, 'Neutral comment', current_timestamp - interval '7' hour);
\ No newline at end of file
+       (2, 1, 'Neutral comment', current_timestamp - interval '7' hour);
+
+UPDATE items i
+SET comment_count = (SELECT count(*) FROM comments c WHERE c.item_id = i.id),
+    reviewer_count = (SELECT count(DISTINCT c.author_id) FROM comments c WHERE c.item_id = i.id),
+    last_comment_at = (SELECT max(c.created) FROM comments c WHERE c.item_id = i.id);